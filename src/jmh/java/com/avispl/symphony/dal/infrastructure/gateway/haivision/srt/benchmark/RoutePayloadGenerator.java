@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic route pages shaped like the responses of GET api/gateway/{id}/routes.
+ * The same seed always produces the same payload, so results of different runs can be compared.
+ * Every route has 1 to 8 destinations and carries some fields the adapter does not read, as the gateway does.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RoutePayloadGenerator {
+	private static final String[] PROTOCOLS = { "srt", "udp", "rtp", "http" };
+	private static final String[] MODES = { "caller", "listener", "rendezvous", "hls" };
+	private static final String[] STATUSES = { "ok", "warning", "error", "stopped" };
+
+	private final long seed;
+
+	/**
+	 * Constructor for RoutePayloadGenerator.
+	 *
+	 * @param seed seed of the generated values.
+	 */
+	public RoutePayloadGenerator(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Generates the pages of a route list.
+	 *
+	 * @param routeCount total number of routes.
+	 * @param pageSize number of routes per page.
+	 * @param elapsedSeconds uptime added to every route, so successive polls can be simulated.
+	 * @return the UTF-8 encoded pages, in page order.
+	 */
+	public List<byte[]> generatePages(int routeCount, int pageSize, long elapsedSeconds) {
+		Random random = new Random(seed);
+		List<byte[]> pages = new ArrayList<>();
+		for (int start = 0; start < routeCount; start += pageSize) {
+			int end = Math.min(routeCount, start + pageSize);
+			StringBuilder json = new StringBuilder((end - start) * 1024);
+			json.append("{\"count\":").append(routeCount).append(",\"data\":[");
+			for (int i = start; i < end; i++) {
+				if (i > start) {
+					json.append(',');
+				}
+				appendRoute(json, random, i, elapsedSeconds);
+			}
+			json.append("]}");
+			pages.add(json.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		return pages;
+	}
+
+	/**
+	 * Appends a single route object.
+	 *
+	 * @param json the payload being built.
+	 * @param random source of the generated values.
+	 * @param index index of the route.
+	 * @param elapsedSeconds uptime added to the route.
+	 */
+	private void appendRoute(StringBuilder json, Random random, int index, long elapsedSeconds) {
+		long uptime = random.nextInt(86400 * 30) + elapsedSeconds;
+		json.append("{\"id\":\"").append(String.format("%08x-route-%06d", random.nextInt(), index)).append('"')
+				.append(",\"name\":\"Route ").append(index).append('"')
+				.append(",\"state\":\"running\"")
+				.append(",\"summaryStatusDetails\":\"").append(STATUSES[random.nextInt(STATUSES.length)]).append('"')
+				.append(",\"elapsedTime\":\"").append(String.format("%02d:%02d:%02d", uptime / 3600, uptime / 60 % 60, uptime % 60)).append('"')
+				.append(",\"tags\":[\"benchmark\",\"synthetic\"]")
+				.append(",\"source\":");
+		appendEndpoint(json, random, "Source " + index);
+		json.append(",\"destinations\":[");
+		int destinationCount = 1 + random.nextInt(8);
+		for (int i = 0; i < destinationCount; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			appendEndpoint(json, random, "Destination " + index + "-" + i);
+		}
+		json.append("]}");
+	}
+
+	/**
+	 * Appends a source or destination object.
+	 *
+	 * @param json the payload being built.
+	 * @param random source of the generated values.
+	 * @param name name of the endpoint.
+	 */
+	private void appendEndpoint(StringBuilder json, Random random, String name) {
+		json.append("{\"id\":\"").append(Integer.toHexString(random.nextInt())).append('"')
+				.append(",\"name\":\"").append(name).append('"')
+				.append(",\"mode\":\"").append(MODES[random.nextInt(MODES.length)]).append('"')
+				.append(",\"protocol\":\"").append(PROTOCOLS[random.nextInt(PROTOCOLS.length)]).append('"')
+				.append(",\"address\":\"10.").append(random.nextInt(256)).append('.').append(random.nextInt(256)).append('.').append(random.nextInt(256)).append('"')
+				.append(",\"port\":").append(1024 + random.nextInt(64000))
+				.append(",\"summaryStatusDetails\":\"").append(STATUSES[random.nextInt(STATUSES.length)]).append('"')
+				.append(",\"latency\":").append(random.nextInt(2000))
+				.append(",\"encryption\":{\"type\":\"aes\",\"keyLength\":256}}");
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionConstant;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionFormatter;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteCache;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteInfo;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RoutePage;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteProperties;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RoutePropertiesBuilder;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RoutePropertyNames;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteResponseParser;
+
+/**
+ * Measures the route pipeline of the adapter on synthetic payloads, without any network I/O:
+ * parsing the route pages into the route cache, and populating the route statistics the way
+ * {@code HaivisionGatewayCommunicator.populateRouteInfo} does.
+ * Every benchmark is reported as throughput and as sampled latency, which gives the p99.
+ * Allocation rates are reported by the gc profiler, enabled by default in the benchmark profile.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class RoutePipelineBenchmark {
+	private static final String DEVICE_ID = "benchmark-device";
+	private static final long SEED = 20261016L;
+
+	@Param({ "50", "500", "5000", "50000" })
+	private int routeCount;
+
+	/**
+	 * Two successive polls, the second one reports every uptime 30 seconds later
+	 */
+	private List<byte[]>[] polls;
+	private int pollIndex;
+
+	private RouteResponseParser routeResponseParser;
+	private RoutePropertiesBuilder routePropertiesBuilder;
+	private HaivisionFormatter formatter;
+	private RouteCache routeCache;
+	private Map<String, RouteProperties> routePropertiesCache;
+
+	/**
+	 * Generates the payloads and fills the caches with the first poll, the state the adapter is in after its first refresh.
+	 *
+	 * @throws IOException if a payload cannot be parsed.
+	 */
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setUp() throws IOException {
+		RoutePayloadGenerator generator = new RoutePayloadGenerator(SEED);
+		polls = new List[] {
+				generator.generatePages(routeCount, HaivisionConstant.DEFAULT_ROUTE_PAGE_SIZE, 0),
+				generator.generatePages(routeCount, HaivisionConstant.DEFAULT_ROUTE_PAGE_SIZE, 30)
+		};
+		routeResponseParser = new RouteResponseParser(new ObjectMapper().getFactory());
+		routePropertiesBuilder = new RoutePropertiesBuilder();
+		formatter = new HaivisionFormatter(HaivisionConstant.FORMATTER_CACHE_SIZE);
+		routeCache = new RouteCache();
+		routePropertiesCache = new HashMap<>();
+		parse(polls[0]);
+		populate(new HashMap<>());
+	}
+
+	/**
+	 * Parses one poll of route pages into the route cache.
+	 *
+	 * @return the route cache.
+	 * @throws IOException if a payload cannot be parsed.
+	 */
+	@Benchmark
+	public RouteCache parseRoutes() throws IOException {
+		parse(nextPoll());
+		return routeCache;
+	}
+
+	/**
+	 * Populates the route statistics from scratch, as on the first poll or after every route changed.
+	 *
+	 * @param blackhole consumes the populated statistics.
+	 */
+	@Benchmark
+	public void populateAllRoutes(Blackhole blackhole) {
+		routePropertiesCache.clear();
+		blackhole.consume(populate(new HashMap<>()));
+	}
+
+	/**
+	 * Populates the route statistics when only the uptimes changed since the last poll.
+	 *
+	 * @param blackhole consumes the populated statistics.
+	 */
+	@Benchmark
+	public void populateUnchangedRoutes(Blackhole blackhole) {
+		blackhole.consume(populate(new HashMap<>()));
+	}
+
+	/**
+	 * Parses one poll and populates the route statistics, the steady state of a refresh cycle.
+	 *
+	 * @param blackhole consumes the populated statistics.
+	 * @throws IOException if a payload cannot be parsed.
+	 */
+	@Benchmark
+	public void parseAndPopulateRoutes(Blackhole blackhole) throws IOException {
+		parse(nextPoll());
+		blackhole.consume(populate(new HashMap<>()));
+	}
+
+	/**
+	 * Alternates between the two polls, so the uptimes change on every invocation as they do on a live gateway.
+	 *
+	 * @return the pages of the next poll.
+	 */
+	private List<byte[]> nextPoll() {
+		pollIndex ^= 1;
+		return polls[pollIndex];
+	}
+
+	/**
+	 * Parses route pages into the route cache, as the adapter does once the pages are received.
+	 *
+	 * @param pages the route pages.
+	 * @throws IOException if a payload cannot be parsed.
+	 */
+	private void parse(List<byte[]> pages) throws IOException {
+		long fetchTimestamp = System.currentTimeMillis();
+		for (byte[] page : pages) {
+			RoutePage routePage = routeResponseParser.parse(new ByteArrayInputStream(page));
+			routeCache.update(DEVICE_ID, routePage.getRoutes(), fetchTimestamp);
+		}
+		routeCache.evict(fetchTimestamp, HaivisionConstant.DEFAULT_ROUTE_EVICTION_GRACE_PERIOD, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Populates the statistics of every cached route, reusing the properties of routes that did not change.
+	 *
+	 * @param stats the statistics to populate.
+	 * @return the populated statistics.
+	 */
+	private Map<String, String> populate(Map<String, String> stats) {
+		for (Map.Entry<String, RouteInfo> entry : routeCache.getRoutes(DEVICE_ID).entrySet()) {
+			RouteInfo route = entry.getValue();
+			RouteProperties routeProperties = routePropertiesCache.computeIfAbsent(entry.getKey(), RouteProperties::new);
+			RoutePropertyNames propertyNames = routeProperties.getPropertyNames();
+			if (routeProperties.isOutdated(route)) {
+				routeProperties.update(route, routePropertiesBuilder.build(propertyNames, route));
+			}
+			stats.putAll(routeProperties.getProperties());
+			String elapsedTime = route.getElapsedTime();
+			stats.put(propertyNames.getRouteProperty(RouteInfoEnum.UPTIME), formatter.convertTimeFormat(elapsedTime == null ? HaivisionConstant.NONE : elapsedTime));
+		}
+		return stats;
+	}
+}
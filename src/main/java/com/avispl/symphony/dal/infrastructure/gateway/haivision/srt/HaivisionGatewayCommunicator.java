@@ -7,35 +7,78 @@ package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt;
 
 import java.io.IOException;
 import java.net.ConnectException;
-import java.net.Socket;
 import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
-import java.text.SimpleDateFormat;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.security.auth.login.FailedLoginException;
 
 import com.avispl.symphony.api.dal.control.Controller;
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.AdapterMetrics;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.AdapterMetricsInterceptor;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.CircuitBreaker;
 import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionCommand;
 import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionConstant;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionFormatter;
 import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.PingMode;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.RouteNameFilter;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.StatisticsSnapshot;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.WarmStartSnapshot;
 import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.DeviceInfoEnum;
-import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteConfigurationEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RefreshPhaseEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteControlEnum;
 import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteStatisticsEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.ping.TcpPingResult;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.ping.TcpPingService;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteCache;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteInfo;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RoutePage;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RoutePollingSchedule;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteProperties;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RoutePropertiesBuilder;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RoutePropertyNames;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteResponseParser;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteStatistics;
+import com.avispl.symphony.dal.util.ControllablePropertyFactory;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -43,6 +86,7 @@ import com.avispl.symphony.dal.util.StringUtils;
  *
  * Supported features are:
  * Monitoring for Device Information and Route information
+ * Routes reported as aggregated devices
  *
  * Monitoring Capabilities:
  * Haivision Media Gateway version 1.0.0
@@ -64,54 +108,824 @@ import com.avispl.symphony.dal.util.StringUtils;
  * Created on 8/15/2024
  * @since 1.0.0
  */
-public class HaivisionGatewayCommunicator extends RestCommunicator implements Monitorable, Controller {
+public class HaivisionGatewayCommunicator extends RestCommunicator implements Aggregator, Monitorable, Controller {
+
+	/**
+	 * Process that runs constantly and refreshes the statistics snapshot in the background,
+	 * so {@link #getMultipleStatistics()} never waits for the device.
+	 * Cycles are skipped while {@link #circuitBreaker} is open, the gateway is only probed until it answers again.
+	 */
+	class HaivisionDataLoader implements Runnable {
+		private volatile boolean inProgress;
+
+		public HaivisionDataLoader() {
+			inProgress = true;
+		}
+
+		@Override
+		public void run() {
+			while (inProgress) {
+				long currentTimestamp = clock.millis();
+				if (currentTimestamp < validRetrieveStatisticsTimestamp && currentTimestamp >= nextRefreshTimestamp) {
+					nextRefreshTimestamp = currentTimestamp + pollingInterval;
+					CircuitBreaker breaker = circuitBreaker;
+					if (breaker.isProbeDue(currentTimestamp)) {
+						breaker.recordProbe(probeGateway(), clock.millis());
+					}
+					if (breaker.isCallPermitted()) {
+						try {
+							refreshStatistics();
+							breaker.recordSuccess();
+							lastRefreshError = null;
+							saveWarmStartSnapshot();
+						} catch (Exception e) {
+							// rejected credentials mean the gateway answers, they do not open the breaker and are reported as they are
+							FailedLoginException failedLoginException = getFailedLoginException(e);
+							lastRefreshError = failedLoginException == null ? e : failedLoginException;
+							adapterMetrics.recordRefreshError();
+							if (failedLoginException == null) {
+								breaker.recordFailure(clock.millis());
+							}
+							logger.error("Error while refreshing the statistics", e);
+						}
+					}
+				}
+				try {
+					Thread.sleep(HaivisionConstant.DATA_LOADER_TICK);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Main data collection thread is not in progress, breaking.");
+			}
+		}
+
+		/**
+		 * Triggers main loop to stop
+		 */
+		public void stop() {
+			inProgress = false;
+		}
+	}
+
+	/**
+	 * Route status set by a control
+	 */
+	private static final class ControlPatch {
+		private final long timestamp;
+		private final String status;
+
+		private ControlPatch(long timestamp, String status) {
+			this.timestamp = timestamp;
+			this.status = status;
+		}
+	}
+
+	/**
+	 * Route a control applies to
+	 */
+	private static final class RouteTarget {
+		private final String group;
+		private final String deviceId;
+		private final String routeId;
+
+		private RouteTarget(String group, String deviceId, String routeId) {
+			this.group = group;
+			this.deviceId = deviceId;
+			this.routeId = routeId;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof RouteTarget)) {
+				return false;
+			}
+			RouteTarget that = (RouteTarget) o;
+			return group.equals(that.group) && deviceId.equals(that.deviceId) && routeId.equals(that.routeId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(group, deviceId, routeId);
+		}
+	}
+
+	/**
+	 * Route reported as an aggregated device, as retrieved by the latest refresh
+	 */
+	private static final class AggregatedRoute {
+		private final RouteTarget target;
+		private final RouteInfo route;
+		private final Map<String, String> statistics;
+		private final boolean statisticsStale;
+		private final boolean restored;
+
+		private AggregatedRoute(RouteTarget target, RouteInfo route, Map<String, String> statistics, boolean statisticsStale, boolean restored) {
+			this.target = target;
+			this.route = route;
+			this.statistics = statistics;
+			this.statisticsStale = statisticsStale;
+			this.restored = restored;
+		}
+	}
 
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
+	/**
+	 * Formatter of the LastConnected and RouteUptime values
+	 */
+	private final HaivisionFormatter formatter = new HaivisionFormatter(HaivisionConstant.FORMATTER_CACHE_SIZE);
+
+	/**
+	 * Builds the statistics properties of a route
+	 */
+	private final RoutePropertiesBuilder routePropertiesBuilder = new RoutePropertiesBuilder();
+
+	/**
+	 * Streaming parser for the routes response
+	 */
+	private final RouteResponseParser routeResponseParser = new RouteResponseParser(objectMapper.getFactory());
+
 	/**
 	 * store authentication information
 	 */
-	private String authenticationCookie = HaivisionConstant.EMPTY;
+	private volatile String authenticationCookie = HaivisionConstant.EMPTY;
 
 	/**
-	 * ReentrantLock to prevent telnet session is closed when adapter is retrieving statistics from the device.
+	 * Timestamp of the last request accepted with the current session, the session is considered valid
+	 * until it has been idle for {@link #sessionTimeout}
+	 */
+	private volatile long lastSessionActivity;
+
+	/**
+	 * Idle time after which the manager expires a session, in milliseconds.
+	 */
+	private long sessionTimeout = HaivisionConstant.DEFAULT_SESSION_TIMEOUT;
+
+	/**
+	 * ReentrantLock to prevent the session from being closed while the adapter is retrieving statistics from the device.
+	 * It is only held by the refresh, statistics reads and controls never wait for it.
 	 */
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * Store previous/current ExtendedStatistics
+	 * Latest statistics snapshot, replaced as a whole by {@link HaivisionDataLoader} after every refresh
+	 * and by a patched copy after every control
+	 */
+	private final AtomicReference<StatisticsSnapshot> statisticsSnapshot = new AtomicReference<>();
+
+	/**
+	 * Latest status set by a control on each route, kept until a refresh started after the control publishes its snapshot,
+	 * so a refresh in flight while a control runs does not bring back the status from before the control.
+	 * It is applied to the adapter statistics, or to the aggregated device of the route when {@link #routeAggregationEnabled} is set.
+	 */
+	private final Map<RouteTarget, ControlPatch> controlPatches = new ConcurrentHashMap<>();
+
+	/**
+	 * Error of the latest refresh, null if it succeeded
+	 */
+	private volatile Exception lastRefreshError;
+
+	/**
+	 * Clock of the refresh cadence, the session expiry, the route cache and the control patches
+	 */
+	private volatile Clock clock = Clock.systemUTC();
+
+	/**
+	 * Timestamp of the next scheduled refresh
+	 */
+	private volatile long nextRefreshTimestamp;
+
+	/**
+	 * The background refresh stays active until this timestamp, it is extended on every {@link #getMultipleStatistics()} call
+	 * so the device is not polled when nobody reads the statistics.
+	 */
+	private volatile long validRetrieveStatisticsTimestamp;
+
+	/**
+	 * Interval between two background refreshes, in milliseconds.
+	 */
+	private long pollingInterval = HaivisionConstant.DEFAULT_POLLING_INTERVAL;
+
+	/**
+	 * Single thread executor running {@link #dataLoader}
+	 */
+	private ExecutorService dataLoaderExecutor;
+
+	/**
+	 * Background refresh loop
+	 */
+	private HaivisionDataLoader dataLoader;
+
+	/**
+	 * Set by a control so the next statistics are delivered even if the latest refresh failed
+	 */
+	private final AtomicBoolean emergencyDelivery = new AtomicBoolean();
+
+	/**
+	 * A cache that maps device property names to their corresponding values.
+	 */
+	private final Map<String, String> cacheValue = new HashMap<>();
+
+	/**
+	 * A string that specifies the name of a route to filter by.
+	 */
+	private String filterByRouteName;
+
+	/**
+	 * A string that specifies the names of all routes to filter by.
+	 */
+	private String filterAllRouteName;
+
+	/**
+	 * All routes mapped by route name, grouped by the ID of the device that owns them.
+	 * Routes that are not returned anymore are evicted after {@link #routeEvictionGracePeriod}.
+	 */
+	private final RouteCache routeInfoCache = new RouteCache();
+
+	/**
+	 * Time a route keeps its last known values after the device stopped returning it, in milliseconds.
+	 */
+	private long routeEvictionGracePeriod = HaivisionConstant.DEFAULT_ROUTE_EVICTION_GRACE_PERIOD;
+
+	/**
+	 * Maximum number of routes kept in {@link #routeInfoCache}, 0 for no limit.
+	 */
+	private int maxRouteCacheSize;
+
+	/**
+	 * Properties built for each populated route, mapped by the statistics group of the route.
+	 * They are rebuilt only when the fingerprint of the route changes.
+	 */
+	private final Map<String, RouteProperties> routePropertiesCache = new HashMap<>();
+
+	/**
+	 * Compiled {@link #filterByRouteName}, rebuilt when the property value changes
+	 */
+	private RouteNameFilter routeNameFilter;
+
+	/**
+	 * Route names matching {@link #routeNameFilter}, grouped by device ID.
+	 * They are reused until the filter or the route names change.
+	 */
+	private final Map<String, Set<String>> filteredRouteNames = new HashMap<>();
+
+	/**
+	 * Version of the route names {@link #filteredRouteNames} was computed from
+	 */
+	private long filteredRouteNamesVersion = -1;
+
+	/**
+	 * The IDs of all devices reported by the manager, in the order they were returned.
+	 */
+	private final List<String> deviceIds = new ArrayList<>();
+
+	/**
+	 * The statistics group of each device, empty when the manager reports a single device.
+	 */
+	private final Map<String, String> deviceGroups = new HashMap<>();
+
+	/**
+	 * Time to live of the static device information (identity, network, firmware), in milliseconds.
+	 * The device list is requested again once it expires, or earlier when a change of the devices is detected.
+	 */
+	private long deviceInfoTtl = HaivisionConstant.DEFAULT_DEVICE_INFO_TTL;
+
+	/**
+	 * Interval between two requests of the device status, in milliseconds.
+	 * The status is requested on every cycle when it is not above {@link #pollingInterval}.
+	 */
+	private long deviceStatusPollingInterval;
+
+	/**
+	 * Time the static device information was last refreshed
+	 */
+	private long deviceInfoTimestamp;
+
+	/**
+	 * Time the device status was last refreshed
+	 */
+	private long deviceStatusTimestamp;
+
+	/**
+	 * Number of routes requested per page from the gateway.
+	 */
+	private int routePageSize = HaivisionConstant.DEFAULT_ROUTE_PAGE_SIZE;
+
+	/**
+	 * Maximum number of API requests that are allowed to run at the same time.
+	 */
+	private int maxConcurrentRequests = HaivisionConstant.DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+	/**
+	 * Whether the {@link #adapterMetrics} are published in the AdapterMetrics group of the statistics.
+	 */
+	private boolean adapterMetricsEnabled;
+
+	/**
+	 * Timings and counters of the adapter, collected whether they are published or not
+	 */
+	private final AdapterMetrics adapterMetrics = new AdapterMetrics(HaivisionConstant.METRICS_WINDOW_SIZE);
+
+	/**
+	 * Counts the HTTP requests and response bytes in {@link #adapterMetrics}
+	 */
+	private final AdapterMetricsInterceptor adapterMetricsInterceptor = new AdapterMetricsInterceptor(adapterMetrics);
+
+	/**
+	 * Executor used to fetch route pages concurrently, sized by {@link #maxConcurrentRequests}
+	 */
+	private ExecutorService executorService;
+
+	/**
+	 * Whether the SRT transport statistics of the populated routes are retrieved.
+	 */
+	private boolean routeStatisticsEnabled;
+
+	/**
+	 * Time a refresh cycle waits for the SRT statistics of the routes, in milliseconds.
+	 * Routes whose statistics did not arrive in time keep their last values and are reported as stale.
+	 */
+	private long routeStatisticsTimeBudget = HaivisionConstant.DEFAULT_ROUTE_STATISTICS_TIME_BUDGET;
+
+	/**
+	 * Maximum interval between two SRT statistics requests of a stable, healthy route, in milliseconds.
+	 * Such routes are requested less and less often, from every cycle up to this interval.
+	 * Set it to {@link #pollingInterval} or below to request every route on every cycle.
+	 */
+	private long maxRoutePollingInterval = HaivisionConstant.DEFAULT_MAX_ROUTE_POLLING_INTERVAL;
+
+	/**
+	 * Adaptive cadence of the SRT statistics requests of each route
+	 */
+	private final RoutePollingSchedule routePollingSchedule = new RoutePollingSchedule();
+
+	/**
+	 * Executor used to fetch the SRT statistics of the routes, sized by {@link #maxConcurrentRequests}.
+	 * It is separate from {@link #executorService}, so statistics requests left over by a cycle never delay the route pages.
+	 */
+	private ExecutorService statisticsExecutorService;
+
+	/**
+	 * Whether the populated routes expose start, stop and restart controls.
+	 */
+	private boolean routeControlsEnabled;
+
+	/**
+	 * Executor running the route controls of a batch concurrently, sized by {@link #maxConcurrentRequests}.
+	 * It also builds the aggregated devices, so they never run on the common pool shared by the other adapters.
+	 */
+	private ExecutorService controlExecutorService;
+
+	/**
+	 * Control buttons of each populated route, mapped by the statistics group of the route.
+	 * The buttons are shared by the published snapshots and never modified.
+	 */
+	private final Map<String, List<AdvancedControllableProperty>> routeControlsCache = new HashMap<>();
+
+	/**
+	 * Route targeted by the controls of each populated route, mapped by the statistics group of the route.
+	 * Replaced as a whole by every refresh, so controls can read it from any thread.
+	 */
+	private volatile Map<String, RouteTarget> routeTargets = Collections.emptyMap();
+
+	/**
+	 * Whether the routes are reported as aggregated devices by {@link #retrieveMultipleStatistics()}
+	 * instead of being flattened into the statistics of the adapter.
+	 */
+	private boolean routeAggregationEnabled;
+
+	/**
+	 * Routes reported as aggregated devices, mapped by route ID.
+	 * Replaced as a whole by every refresh, the aggregated devices are built from it on demand.
+	 */
+	private volatile Map<String, AggregatedRoute> aggregatedRoutes = Collections.emptyMap();
+
+	/**
+	 * Properties of the aggregated devices, mapped by route ID. They are only rebuilt when the route changed.
+	 */
+	private final Map<String, RouteProperties> aggregatedRouteProperties = new ConcurrentHashMap<>();
+
+	/**
+	 * Control buttons of the aggregated devices, mapped by route ID. They are created once per route.
+	 */
+	private final Map<String, List<AdvancedControllableProperty>> aggregatedRouteControls = new ConcurrentHashMap<>();
+
+	/**
+	 * Local directory of the warm start snapshot, see {@link WarmStartSnapshot}. No snapshot is written or loaded when it is empty.
+	 */
+	private String warmStartDirectory;
+
+	/**
+	 * Minimum interval between two writes of the warm start snapshot, in milliseconds. It is written after every refresh when 0.
+	 */
+	private long warmStartInterval = HaivisionConstant.DEFAULT_WARM_START_INTERVAL;
+
+	/**
+	 * Time the warm start snapshot was last written
+	 */
+	private long warmStartTimestamp;
+
+	/**
+	 * Total time a refresh cycle may take, in milliseconds. A cycle still running past it fails between two requests,
+	 * each request remains bounded by the HTTP timeout.
+	 */
+	private long refreshDeadline = HaivisionConstant.DEFAULT_REFRESH_DEADLINE;
+
+	/**
+	 * Time the running refresh cycle must complete by, see {@link #refreshDeadline}
+	 */
+	private long refreshDeadlineTimestamp;
+
+	/**
+	 * Number of consecutive failed refresh cycles that open {@link #circuitBreaker}.
+	 */
+	private int circuitBreakerThreshold = HaivisionConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+
+	/**
+	 * Maximum interval between two probes of an unreachable gateway, in milliseconds.
+	 * The first probe is sent one {@link #pollingInterval} after the breaker opens, each failed probe doubles the interval up to this value.
+	 */
+	private long maxProbeInterval = HaivisionConstant.DEFAULT_MAX_PROBE_INTERVAL;
+
+	/**
+	 * Circuit breaker around the refresh cycles, created again on every init with the current settings.
+	 * While it is open the gateway is only probed, and the last snapshot is reported along with {@link HaivisionConstant#CONNECTION_STATE}.
+	 */
+	private volatile CircuitBreaker circuitBreaker = new CircuitBreaker(HaivisionConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD,
+			HaivisionConstant.DEFAULT_POLLING_INTERVAL, HaivisionConstant.DEFAULT_MAX_PROBE_INTERVAL);
+
+	/**
+	 * Properties built from the latest SRT statistics of each route, mapped by the statistics group of the route.
+	 */
+	private final Map<String, Map<String, String>> routeStatisticsCache = new HashMap<>();
+
+	/**
+	 * SRT statistics requests that have not been collected yet, mapped by the statistics group of the route.
+	 * A route is not requested again while its previous request is pending.
+	 */
+	private final Map<String, Future<RouteStatistics>> pendingRouteStatistics = new HashMap<>();
+
+	/**
+	 * Statistics groups of the routes whose SRT statistics were not refreshed in the latest cycle.
+	 */
+	private final Set<String> staleRouteStatistics = new HashSet<>();
+
+	/**
+	 * Retrieves {@link #routeEvictionGracePeriod}
+	 *
+	 * @return value of {@link #routeEvictionGracePeriod}
+	 */
+	public long getRouteEvictionGracePeriod() {
+		return routeEvictionGracePeriod;
+	}
+
+	/**
+	 * Sets {@link #routeEvictionGracePeriod} value
+	 *
+	 * @param routeEvictionGracePeriod new value of {@link #routeEvictionGracePeriod}
+	 */
+	public void setRouteEvictionGracePeriod(long routeEvictionGracePeriod) {
+		this.routeEvictionGracePeriod = routeEvictionGracePeriod;
+	}
+
+	/**
+	 * Retrieves {@link #maxRouteCacheSize}
+	 *
+	 * @return value of {@link #maxRouteCacheSize}
+	 */
+	public int getMaxRouteCacheSize() {
+		return maxRouteCacheSize;
+	}
+
+	/**
+	 * Sets {@link #maxRouteCacheSize} value
+	 *
+	 * @param maxRouteCacheSize new value of {@link #maxRouteCacheSize}
+	 */
+	public void setMaxRouteCacheSize(int maxRouteCacheSize) {
+		this.maxRouteCacheSize = maxRouteCacheSize;
+	}
+
+	/**
+	 * Retrieves {@link #routeStatisticsEnabled}
+	 *
+	 * @return value of {@link #routeStatisticsEnabled}
+	 */
+	public boolean isRouteStatisticsEnabled() {
+		return routeStatisticsEnabled;
+	}
+
+	/**
+	 * Sets {@link #routeStatisticsEnabled} value
+	 *
+	 * @param routeStatisticsEnabled new value of {@link #routeStatisticsEnabled}
+	 */
+	public void setRouteStatisticsEnabled(boolean routeStatisticsEnabled) {
+		this.routeStatisticsEnabled = routeStatisticsEnabled;
+	}
+
+	/**
+	 * Retrieves {@link #routeControlsEnabled}
+	 *
+	 * @return value of {@link #routeControlsEnabled}
+	 */
+	public boolean isRouteControlsEnabled() {
+		return routeControlsEnabled;
+	}
+
+	/**
+	 * Sets {@link #routeControlsEnabled} value
+	 *
+	 * @param routeControlsEnabled new value of {@link #routeControlsEnabled}
+	 */
+	public void setRouteControlsEnabled(boolean routeControlsEnabled) {
+		this.routeControlsEnabled = routeControlsEnabled;
+	}
+
+	/**
+	 * Retrieves {@link #routeAggregationEnabled}
+	 *
+	 * @return value of {@link #routeAggregationEnabled}
+	 */
+	public boolean isRouteAggregationEnabled() {
+		return routeAggregationEnabled;
+	}
+
+	/**
+	 * Sets {@link #routeAggregationEnabled} value
+	 *
+	 * @param routeAggregationEnabled new value of {@link #routeAggregationEnabled}
+	 */
+	public void setRouteAggregationEnabled(boolean routeAggregationEnabled) {
+		this.routeAggregationEnabled = routeAggregationEnabled;
+	}
+
+	/**
+	 * Retrieves {@link #warmStartDirectory}
+	 *
+	 * @return value of {@link #warmStartDirectory}
+	 */
+	public String getWarmStartDirectory() {
+		return warmStartDirectory;
+	}
+
+	/**
+	 * Sets {@link #warmStartDirectory} value
+	 *
+	 * @param warmStartDirectory new value of {@link #warmStartDirectory}
+	 */
+	public void setWarmStartDirectory(String warmStartDirectory) {
+		this.warmStartDirectory = warmStartDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #warmStartInterval}
+	 *
+	 * @return value of {@link #warmStartInterval}
+	 */
+	public long getWarmStartInterval() {
+		return warmStartInterval;
+	}
+
+	/**
+	 * Sets {@link #warmStartInterval} value
+	 *
+	 * @param warmStartInterval new value of {@link #warmStartInterval}
+	 */
+	public void setWarmStartInterval(long warmStartInterval) {
+		this.warmStartInterval = warmStartInterval;
+	}
+
+	/**
+	 * Replaces the clock of the adapter, so the tests can drive the refresh cycles without waiting for them.
+	 *
+	 * @param clock the clock to use.
+	 */
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Retrieves {@link #refreshDeadline}
+	 *
+	 * @return value of {@link #refreshDeadline}
+	 */
+	public long getRefreshDeadline() {
+		return refreshDeadline;
+	}
+
+	/**
+	 * Sets {@link #refreshDeadline} value
+	 *
+	 * @param refreshDeadline new value of {@link #refreshDeadline}
+	 */
+	public void setRefreshDeadline(long refreshDeadline) {
+		this.refreshDeadline = refreshDeadline;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerThreshold}
+	 */
+	public int getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerThreshold} value
+	 *
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+	 */
+	public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = circuitBreakerThreshold;
+	}
+
+	/**
+	 * Retrieves {@link #maxProbeInterval}
+	 *
+	 * @return value of {@link #maxProbeInterval}
+	 */
+	public long getMaxProbeInterval() {
+		return maxProbeInterval;
+	}
+
+	/**
+	 * Sets {@link #maxProbeInterval} value
+	 *
+	 * @param maxProbeInterval new value of {@link #maxProbeInterval}
+	 */
+	public void setMaxProbeInterval(long maxProbeInterval) {
+		this.maxProbeInterval = maxProbeInterval;
+	}
+
+	/**
+	 * Retrieves {@link #routeStatisticsTimeBudget}
+	 *
+	 * @return value of {@link #routeStatisticsTimeBudget}
+	 */
+	public long getRouteStatisticsTimeBudget() {
+		return routeStatisticsTimeBudget;
+	}
+
+	/**
+	 * Sets {@link #routeStatisticsTimeBudget} value
+	 *
+	 * @param routeStatisticsTimeBudget new value of {@link #routeStatisticsTimeBudget}
+	 */
+	public void setRouteStatisticsTimeBudget(long routeStatisticsTimeBudget) {
+		this.routeStatisticsTimeBudget = routeStatisticsTimeBudget;
+	}
+
+	/**
+	 * Retrieves {@link #maxRoutePollingInterval}
+	 *
+	 * @return value of {@link #maxRoutePollingInterval}
+	 */
+	public long getMaxRoutePollingInterval() {
+		return maxRoutePollingInterval;
+	}
+
+	/**
+	 * Sets {@link #maxRoutePollingInterval} value
+	 *
+	 * @param maxRoutePollingInterval new value of {@link #maxRoutePollingInterval}
+	 */
+	public void setMaxRoutePollingInterval(long maxRoutePollingInterval) {
+		this.maxRoutePollingInterval = maxRoutePollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #deviceInfoTtl}
+	 *
+	 * @return value of {@link #deviceInfoTtl}
+	 */
+	public long getDeviceInfoTtl() {
+		return deviceInfoTtl;
+	}
+
+	/**
+	 * Sets {@link #deviceInfoTtl} value
+	 *
+	 * @param deviceInfoTtl new value of {@link #deviceInfoTtl}
+	 */
+	public void setDeviceInfoTtl(long deviceInfoTtl) {
+		this.deviceInfoTtl = deviceInfoTtl;
+	}
+
+	/**
+	 * Retrieves {@link #deviceStatusPollingInterval}
+	 *
+	 * @return value of {@link #deviceStatusPollingInterval}
+	 */
+	public long getDeviceStatusPollingInterval() {
+		return deviceStatusPollingInterval;
+	}
+
+	/**
+	 * Sets {@link #deviceStatusPollingInterval} value
+	 *
+	 * @param deviceStatusPollingInterval new value of {@link #deviceStatusPollingInterval}
+	 */
+	public void setDeviceStatusPollingInterval(long deviceStatusPollingInterval) {
+		this.deviceStatusPollingInterval = deviceStatusPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #adapterMetricsEnabled}
+	 *
+	 * @return value of {@link #adapterMetricsEnabled}
+	 */
+	public boolean isAdapterMetricsEnabled() {
+		return adapterMetricsEnabled;
+	}
+
+	/**
+	 * Sets {@link #adapterMetricsEnabled} value
+	 *
+	 * @param adapterMetricsEnabled new value of {@link #adapterMetricsEnabled}
+	 */
+	public void setAdapterMetricsEnabled(boolean adapterMetricsEnabled) {
+		this.adapterMetricsEnabled = adapterMetricsEnabled;
+	}
+
+	/**
+	 * Retrieves {@link #pollingInterval}
+	 *
+	 * @return value of {@link #pollingInterval}
+	 */
+	public long getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Sets {@link #pollingInterval} value
+	 *
+	 * @param pollingInterval new value of {@link #pollingInterval}
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	public void setPollingInterval(long pollingInterval) {
+		this.pollingInterval = pollingInterval;
+	}
 
 	/**
-	 * isEmergencyDelivery to check if control flow is trigger
+	 * Retrieves {@link #sessionTimeout}
+	 *
+	 * @return value of {@link #sessionTimeout}
 	 */
-	private boolean isEmergencyDelivery;
+	public long getSessionTimeout() {
+		return sessionTimeout;
+	}
 
 	/**
-	 * A cache that maps route names to their corresponding values.
+	 * Sets {@link #sessionTimeout} value
+	 *
+	 * @param sessionTimeout new value of {@link #sessionTimeout}
 	 */
-	private final Map<String, String> cacheValue = new HashMap<>();
+	public void setSessionTimeout(long sessionTimeout) {
+		this.sessionTimeout = sessionTimeout;
+	}
 
 	/**
-	 * A string that specifies the name of a route to filter by.
+	 * Retrieves {@link #routePageSize}
+	 *
+	 * @return value of {@link #routePageSize}
 	 */
-	private String filterByRouteName;
+	public int getRoutePageSize() {
+		return routePageSize;
+	}
 
 	/**
-	 * A string that specifies the names of all routes to filter by.
+	 * Sets {@link #routePageSize} value
+	 *
+	 * @param routePageSize new value of {@link #routePageSize}
 	 */
-	private String filterAllRouteName;
+	public void setRoutePageSize(int routePageSize) {
+		this.routePageSize = routePageSize;
+	}
 
 	/**
-	 * A set containing all route names.
+	 * Retrieves {@link #maxConcurrentRequests}
+	 *
+	 * @return value of {@link #maxConcurrentRequests}
 	 */
-	private Set<String> allRouteNameSet = new HashSet<>();
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
 
 	/**
-	 * The ID of the device.
+	 * Sets {@link #maxConcurrentRequests} value
+	 *
+	 * @param maxConcurrentRequests new value of {@link #maxConcurrentRequests}
 	 */
-	private String deviceId;
+	public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
 
 	/**
 	 * Retrieves {@link #filterByRouteName}
@@ -185,77 +999,133 @@ public class HaivisionGatewayCommunicator extends RestCommunicator implements Mo
 	 *
 	 * Check for available devices before retrieving the value
 	 * ping latency information to Symphony
+	 * In TCP mode the attempts run in parallel on the shared {@link TcpPingService} and their median latency is reported.
+	 * In HTTP mode the round trip of a request to the API is reported, see {@link #httpPing()}.
 	 */
 	@Override
 	public int ping() throws Exception {
 		if (this.pingMode == PingMode.ICMP) {
 			return super.ping();
 		} else if (this.pingMode == PingMode.TCP) {
-			if (isInitialized()) {
-				long pingResultTotal = 0L;
-
-				for (int i = 0; i < this.getPingAttempts(); i++) {
-					long startTime = System.currentTimeMillis();
-
-					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-						puSocketConnection.setSoTimeout(this.getPingTimeout());
-						if (puSocketConnection.isConnected()) {
-							long pingResult = System.currentTimeMillis() - startTime;
-							pingResultTotal += pingResult;
-							if (this.logger.isTraceEnabled()) {
-								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-							}
-						} else {
-							if (this.logger.isDebugEnabled()) {
-								this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-							}
-							return this.getPingTimeout();
-						}
-					} catch (SocketTimeoutException | ConnectException tex) {
-						throw new RuntimeException("Socket connection timed out", tex);
-					} catch (UnknownHostException ex) {
-						throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
-					} catch (Exception e) {
-						if (this.logger.isWarnEnabled()) {
-							this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-						}
-						return this.getPingTimeout();
-					}
+			if (!isInitialized()) {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
+			TcpPingResult result = TcpPingService.getInstance().ping(this.host, this.getPort(), Math.max(1, this.getPingAttempts()), this.getPingTimeout());
+			if (!result.isSuccessful()) {
+				Exception error = result.getLastError();
+				if (error instanceof SocketTimeoutException || error instanceof ConnectException) {
+					throw new RuntimeException("Socket connection timed out", error);
 				}
-				return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-			} else {
+				if (this.logger.isWarnEnabled()) {
+					this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, error.getMessage()));
+				}
+				return this.getPingTimeout();
+			}
+			if (result.getFailedAttempts() > 0 && this.logger.isWarnEnabled()) {
+				this.logger.warn(String.format("PING PARTIAL: %s of %s attempts to connect to %s on port %s failed: %s", result.getFailedAttempts(), result.getAttempts(), host,
+						this.getPort(), result.getLastError().getMessage()));
+			}
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace(String.format("PING OK: Median of %s attempts to connect to %s on port %s is %s ns", result.getSuccessfulAttempts(), host, this.getPort(),
+						result.getMedianLatency()));
+			}
+			// the latency is reported in whole milliseconds, a host answering within a millisecond is reported as 1
+			return (int) Math.max(1, Math.round(result.getMedianLatency() / 1_000_000d));
+		} else if (this.pingMode == PingMode.HTTP) {
+			if (!isInitialized()) {
 				throw new IllegalStateException("Cannot use device class without calling init() first");
 			}
+			return httpPing();
 		} else {
 			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
 		}
 	}
 
+	/**
+	 * Measures the round trip of a GET request on the session endpoint.
+	 * The request goes through the pooled client, so it reuses a connection kept alive by the polling and needs no handshake.
+	 * Any HTTP response, even an error status, proves that the API answers; only a transport error fails the ping.
+	 *
+	 * @return the round trip latency in milliseconds, at least 1.
+	 * @throws RuntimeException if the API did not answer.
+	 */
+	private int httpPing() {
+		long startTime = System.nanoTime();
+		try {
+			String response = this.doGet(HaivisionCommand.API_SESSION, String.class);
+			if (isSessionAccepted(response)) {
+				lastSessionActivity = clock.millis();
+			}
+		} catch (CommandFailureException | FailedLoginException e) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("PING HTTP: %s answered the session check with an error: %s", host, e.getMessage()));
+			}
+		} catch (Exception e) {
+			throw new RuntimeException("HTTP connection to " + host + " failed", e);
+		}
+		long latency = System.nanoTime() - startTime;
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace(String.format("PING OK: HTTP round trip to %s is %s ns", host, latency));
+		}
+		return (int) Math.max(1, Math.round(latency / 1_000_000d));
+	}
+
+	/**
+	 * Checks whether the answer of the session check accepts the current session.
+	 * An expired session may be answered with a success status and an error body, the session must not be extended then.
+	 *
+	 * @param response the body of the session check.
+	 * @return true if the body is JSON without {@link HaivisionConstant#ERROR} field.
+	 */
+	private boolean isSessionAccepted(String response) {
+		if (StringUtils.isNullOrEmpty(response)) {
+			return false;
+		}
+		try {
+			JsonNode body = objectMapper.readTree(response);
+			return body != null && body.isObject() && !body.has(HaivisionConstant.ERROR);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Returns the latest snapshot built by {@link HaivisionDataLoader} without waiting for the device,
+	 * along with the age of its data and the connection state of {@link #circuitBreaker}.
+	 * The error of the latest refresh, if any, is reported instead, unless the breaker is open or half open:
+	 * the last snapshot is then reported, marked with {@link HaivisionConstant#DATA_STALE}.
+	 * The snapshot restored from the warm start file, already marked stale, is reported until a refresh succeeds.
+	 * Rejected credentials are always reported, whatever the state of the breaker.
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
+		long currentTimestamp = clock.millis();
+		validRetrieveStatisticsTimestamp = currentTimestamp + Math.max(HaivisionConstant.RETRIEVE_STATISTICS_TIMEOUT, pollingInterval * 2);
 
-		try {
-			Map<String, String> stats = new HashMap<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		StatisticsSnapshot snapshot = statisticsSnapshot.get();
+		Exception error = lastRefreshError;
+		CircuitBreaker.State connectionState = circuitBreaker.getState();
+		boolean emergency = emergencyDelivery.getAndSet(false);
+		if (error instanceof FailedLoginException || error != null && !emergency && (snapshot == null || connectionState == CircuitBreaker.State.CLOSED && !snapshot.isRestored())) {
+			throw error;
+		}
 
-			if (!isEmergencyDelivery) {
-				checkAuthentication();
-				retrieveMonitoringProperties();
-				retrieveRouteInfo();
-				populateMonitoringProperties(stats);
-				populateRouteInfo(stats);
-				extendedStatistics.setStatistics(stats);
-				localExtendedStatistics = extendedStatistics;
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		Map<String, String> stats = new HashMap<>();
+		if (snapshot != null) {
+			stats.putAll(snapshot.getStatistics());
+			stats.put(HaivisionConstant.DATA_AGE, String.valueOf((currentTimestamp - snapshot.getTimestamp()) / 1000));
+			stats.put(HaivisionConstant.CONNECTION_STATE, connectionState.getConnectionState());
+			if (connectionState != CircuitBreaker.State.CLOSED) {
+				stats.put(HaivisionConstant.DATA_STALE, HaivisionConstant.TRUE);
 			}
-			isEmergencyDelivery = false;
-		} finally {
-			reentrantLock.unlock();
+			extendedStatistics.setControllableProperties(new ArrayList<>(snapshot.getControllableProperties()));
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		extendedStatistics.setStatistics(stats);
+		return Collections.singletonList(extendedStatistics);
 	}
 
 	/**
@@ -263,88 +1133,649 @@ public class HaivisionGatewayCommunicator extends RestCommunicator implements Mo
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-
+		RouteTarget target = getRouteTarget(controllableProperty);
+		runRouteControl(target, getRouteControl(controllableProperty));
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Controls sent for the same route are merged into one, see {@link RouteControlEnum#merge(RouteControlEnum, RouteControlEnum)},
+	 * then the controls of the different routes run concurrently on {@link #controlExecutorService}.
 	 */
 	@Override
 	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
 		if (CollectionUtils.isEmpty(controllableProperties)) {
 			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
 		}
+		Map<String, RouteTarget> targets = new LinkedHashMap<>();
+		Map<String, RouteControlEnum> controls = new HashMap<>();
 		for (ControllableProperty p : controllableProperties) {
 			try {
-				controlProperty(p);
-			} catch (Exception e) {
+				RouteTarget target = getRouteTarget(p);
+				targets.putIfAbsent(target.group, target);
+				controls.merge(target.group, getRouteControl(p), RouteControlEnum::merge);
+			} catch (IllegalArgumentException e) {
 				logger.error(String.format("Error when control property %s", p.getProperty()), e);
 			}
 		}
+		Map<String, Future<?>> futures = new LinkedHashMap<>();
+		for (RouteTarget target : targets.values()) {
+			RouteControlEnum control = controls.get(target.group);
+			futures.put(target.group, controlExecutorService.submit(() -> {
+				runRouteControl(target, control);
+				return null;
+			}));
+		}
+		for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+			try {
+				entry.getValue().get();
+			} catch (ExecutionException e) {
+				logger.error(String.format("Error when control route %s", entry.getKey()), e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the route a control applies to, either an aggregated device or a route of the adapter statistics.
+	 *
+	 * @param controllableProperty the control.
+	 * @return the route.
+	 * @throws IllegalArgumentException if the route is unknown.
+	 */
+	private RouteTarget getRouteTarget(ControllableProperty controllableProperty) {
+		String property = controllableProperty.getProperty();
+		RouteTarget target = null;
+		if (StringUtils.isNotNullOrEmpty(controllableProperty.getDeviceId())) {
+			AggregatedRoute aggregatedRoute = aggregatedRoutes.get(controllableProperty.getDeviceId());
+			target = aggregatedRoute == null ? null : aggregatedRoute.target;
+		} else if (property != null && property.lastIndexOf(HaivisionConstant.HASH) > 0) {
+			target = routeTargets.get(property.substring(0, property.lastIndexOf(HaivisionConstant.HASH)));
+		}
+		if (target == null) {
+			throw new IllegalArgumentException(String.format("Unknown route for control property %s", property));
+		}
+		return target;
+	}
+
+	/**
+	 * Retrieves the route control matching a control property.
+	 *
+	 * @param controllableProperty the control.
+	 * @return the route control.
+	 * @throws IllegalArgumentException if the property is not a route control.
+	 */
+	private RouteControlEnum getRouteControl(ControllableProperty controllableProperty) {
+		String property = controllableProperty.getProperty();
+		String name = property == null ? null : property.substring(property.lastIndexOf(HaivisionConstant.HASH) + 1);
+		return RouteControlEnum.ofName(name).orElseThrow(() -> new IllegalArgumentException(String.format("Unsupported control property %s", property)));
+	}
+
+	/**
+	 * Sends a control to a route. Once the gateway accepted it, the pending status of the control is patched into the
+	 * current snapshot, so it is reported right away instead of after the next refresh.
+	 *
+	 * @param target the route.
+	 * @param control the control to send.
+	 * @throws Exception if the gateway rejects the control.
+	 */
+	private void runRouteControl(RouteTarget target, RouteControlEnum control) throws Exception {
+		try {
+			executeWithSession(() -> this.doPut(String.format(HaivisionCommand.ROUTE_CONTROL, target.deviceId, target.routeId, control.getAction()), Collections.emptyMap()));
+		} catch (CommandFailureException e) {
+			throw new IllegalStateException(String.format("Unable to %s route %s, status code %s", control.getAction(), target.group, e.getStatusCode()), e);
+		}
+		applyControlPatch(target, control.getPendingStatus());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Reports every route of the latest refresh as an aggregated device when {@link #routeAggregationEnabled} is set.
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		validRetrieveStatisticsTimestamp = clock.millis() + Math.max(HaivisionConstant.RETRIEVE_STATISTICS_TIMEOUT, pollingInterval * 2);
+		return buildAggregatedDevices(aggregatedRoutes.values());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Only the requested aggregated devices are built.
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> deviceIds) throws Exception {
+		validRetrieveStatisticsTimestamp = clock.millis() + Math.max(HaivisionConstant.RETRIEVE_STATISTICS_TIMEOUT, pollingInterval * 2);
+		if (CollectionUtils.isEmpty(deviceIds)) {
+			return Collections.emptyList();
+		}
+		Map<String, AggregatedRoute> routes = aggregatedRoutes;
+		List<AggregatedRoute> requestedRoutes = new ArrayList<>();
+		for (String deviceId : deviceIds) {
+			AggregatedRoute route = routes.get(deviceId);
+			if (route != null) {
+				requestedRoutes.add(route);
+			}
+		}
+		return buildAggregatedDevices(requestedRoutes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		if (routePageSize <= 0) {
+			routePageSize = HaivisionConstant.DEFAULT_ROUTE_PAGE_SIZE;
+		}
+		if (maxConcurrentRequests <= 0) {
+			maxConcurrentRequests = HaivisionConstant.DEFAULT_MAX_CONCURRENT_REQUESTS;
+		}
+		if (routeStatisticsTimeBudget <= 0) {
+			routeStatisticsTimeBudget = HaivisionConstant.DEFAULT_ROUTE_STATISTICS_TIME_BUDGET;
+		}
+		// the http client pool must allow as many connections as the requests we run in parallel,
+		// route pages, route statistics and route controls run on separate executors
+		int maxConnections = maxConcurrentRequests * 3 + 1;
+		this.setMaxConnectionsPerRoute(Math.max(this.getMaxConnectionsPerRoute(), maxConnections));
+		this.setMaxConnectionsTotal(Math.max(this.getMaxConnectionsTotal(), maxConnections));
+		executorService = Executors.newFixedThreadPool(maxConcurrentRequests);
+		statisticsExecutorService = Executors.newFixedThreadPool(maxConcurrentRequests);
+		controlExecutorService = Executors.newFixedThreadPool(maxConcurrentRequests);
+		if (pollingInterval <= 0) {
+			pollingInterval = HaivisionConstant.DEFAULT_POLLING_INTERVAL;
+		}
+		if (refreshDeadline <= 0) {
+			refreshDeadline = HaivisionConstant.DEFAULT_REFRESH_DEADLINE;
+		}
+		circuitBreaker = new CircuitBreaker(circuitBreakerThreshold, pollingInterval, maxProbeInterval);
+		// pooled connections are kept alive from one cycle to the next so the TLS handshake is not repeated,
+		// they are only closed once they stayed idle for longer than a couple of polling intervals
+		if (!this.isEvictIdleConnections()) {
+			this.setEvictIdleConnections(true);
+			this.setConnectionsMaxIdleTime((int) Math.min(Integer.MAX_VALUE, 2L * pollingInterval + HaivisionConstant.CONNECTION_IDLE_MARGIN));
+		}
+		this.setEvictExpiredConnections(true);
+
+		super.internalInit();
+
+		loadWarmStartSnapshot();
+		dataLoader = new HaivisionDataLoader();
+		dataLoaderExecutor = Executors.newSingleThreadExecutor();
+		dataLoaderExecutor.submit(dataLoader);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (dataLoader != null) {
+			dataLoader.stop();
+			dataLoader = null;
+		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+		if (statisticsExecutorService != null) {
+			statisticsExecutorService.shutdownNow();
+			statisticsExecutorService = null;
+		}
+		if (controlExecutorService != null) {
+			controlExecutorService.shutdownNow();
+			controlExecutorService = null;
+		}
+		if (dataLoaderExecutor != null) {
+			dataLoaderExecutor.shutdownNow();
+			awaitDataLoaderTermination(dataLoaderExecutor);
+			dataLoaderExecutor = null;
+		}
+		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
+			deleteCookieSession();
+		}
+		statisticsSnapshot.set(null);
+		warmStartTimestamp = 0;
+		controlPatches.clear();
+		emergencyDelivery.set(false);
+		lastRefreshError = null;
+		nextRefreshTimestamp = 0;
+		validRetrieveStatisticsTimestamp = 0;
+		cacheValue.clear();
+		deviceIds.clear();
+		deviceGroups.clear();
+		deviceInfoTimestamp = 0;
+		deviceStatusTimestamp = 0;
+		routeInfoCache.clear();
+		routePropertiesCache.clear();
+		routeControlsCache.clear();
+		routeTargets = Collections.emptyMap();
+		aggregatedRoutes = Collections.emptyMap();
+		aggregatedRouteProperties.clear();
+		aggregatedRouteControls.clear();
+		filteredRouteNames.clear();
+		filteredRouteNamesVersion = -1;
+		routeNameFilter = null;
+		routeStatisticsCache.clear();
+		pendingRouteStatistics.clear();
+		staleRouteStatistics.clear();
+		routePollingSchedule.clear();
+		super.internalDestroy();
+	}
+
+	/**
+	 * Waits for the refresh in flight, if any, before the session is deleted and the caches are cleared.
+	 * A request blocked on the socket ignores the interrupt, so the refresh may only end with the request timeout,
+	 * it is waited for at most {@link #refreshDeadline} plus that timeout.
+	 *
+	 * @param executor the executor of {@link HaivisionDataLoader}, already shut down.
+	 */
+	private void awaitDataLoaderTermination(ExecutorService executor) {
+		try {
+			if (!executor.awaitTermination(refreshDeadline + this.getTimeout(), TimeUnit.MILLISECONDS)) {
+				logger.warn("The refresh in flight did not complete before the adapter was destroyed");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Registers {@link #adapterMetricsInterceptor} on the template, which is created again after a disconnect.
+	 */
+	@Override
+	protected synchronized RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		if (!restTemplate.getInterceptors().contains(adapterMetricsInterceptor)) {
+			List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(restTemplate.getInterceptors());
+			interceptors.add(adapterMetricsInterceptor);
+			restTemplate.setInterceptors(interceptors);
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		headers.set("Content-Type", "application/json");
+		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
+			headers.set(HaivisionConstant.COOKIE, "sessionID=" + this.authenticationCookie);
+		}
+		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	}
+
+	/**
+	 * Fetches the device and route information and publishes a new statistics snapshot.
+	 * The snapshot is built aside and replaces {@link #statisticsSnapshot} atomically,
+	 * so readers always see either the previous or the new statistics as a whole and never wait for the refresh.
+	 *
+	 * @throws Exception if an error occurs while retrieving the information.
+	 */
+	private void refreshStatistics() throws Exception {
+		reentrantLock.lock();
+		try {
+			long refreshTimestamp = clock.millis();
+			long refreshStart = System.nanoTime();
+			long phaseStart = refreshStart;
+			refreshDeadlineTimestamp = refreshTimestamp + refreshDeadline;
+			checkAuthentication();
+			adapterMetrics.recordPhase(RefreshPhaseEnum.SESSION_CHECK, phaseStart);
+			checkRefreshDeadline(RefreshPhaseEnum.DEVICE_INFO);
+			phaseStart = System.nanoTime();
+			retrieveMonitoringProperties();
+			adapterMetrics.recordPhase(RefreshPhaseEnum.DEVICE_INFO, phaseStart);
+			checkRefreshDeadline(RefreshPhaseEnum.ROUTE_FETCH);
+			phaseStart = System.nanoTime();
+			try {
+				retrieveRouteInfo();
+			} catch (ResourceNotReachableException e) {
+				// the device list may be outdated, e.g. a device was removed, it is requested again on the next cycle
+				deviceInfoTimestamp = 0;
+				throw e;
+			}
+			adapterMetrics.recordPhase(RefreshPhaseEnum.ROUTE_FETCH, phaseStart);
+			phaseStart = System.nanoTime();
+			Map<String, Set<String>> selectedRouteNames = selectRouteNames();
+			adapterMetrics.recordPhase(RefreshPhaseEnum.FILTERING, phaseStart);
+			checkRefreshDeadline(RefreshPhaseEnum.ROUTE_STATISTICS);
+			phaseStart = System.nanoTime();
+			retrieveRouteStatistics(selectedRouteNames);
+			adapterMetrics.recordPhase(RefreshPhaseEnum.ROUTE_STATISTICS, phaseStart);
+			phaseStart = System.nanoTime();
+			Map<String, String> stats = new HashMap<>();
+			List<AdvancedControllableProperty> controls = new ArrayList<>();
+			populateMonitoringProperties(stats);
+			if (routeAggregationEnabled) {
+				publishAggregatedRoutes(selectedRouteNames);
+			} else {
+				aggregatedRoutes = Collections.emptyMap();
+				aggregatedRouteProperties.clear();
+				aggregatedRouteControls.clear();
+				populateRouteInfo(stats, controls, selectedRouteNames);
+			}
+			stats.put(HaivisionConstant.ROUTE_CACHE_SIZE, String.valueOf(routeInfoCache.size()));
+			stats.put(HaivisionConstant.ROUTE_CACHE_EVICTIONS, String.valueOf(routeInfoCache.getEvictionCount()));
+			adapterMetrics.recordPhase(RefreshPhaseEnum.POPULATE, phaseStart);
+			adapterMetrics.recordPhase(RefreshPhaseEnum.REFRESH, refreshStart);
+			adapterMetrics.recordRefresh();
+			if (adapterMetricsEnabled) {
+				adapterMetrics.populate(stats);
+			}
+			publishSnapshot(new StatisticsSnapshot(stats, controls, clock.millis()), refreshTimestamp);
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Fails the running refresh cycle if {@link #refreshDeadline} has passed, before it starts another phase.
+	 *
+	 * @param phase the phase about to start.
+	 * @throws ResourceNotReachableException if the deadline has passed.
+	 */
+	private void checkRefreshDeadline(RefreshPhaseEnum phase) {
+		if (clock.millis() >= refreshDeadlineTimestamp) {
+			throw new ResourceNotReachableException(String.format("Refresh deadline of %s ms exceeded before %s", refreshDeadline, phase.getName()));
+		}
+	}
+
+	/**
+	 * Waits for a request of the running refresh cycle, at most until {@link #refreshDeadline}.
+	 *
+	 * @param future the pending request.
+	 * @param <T> type of the response.
+	 * @return the response.
+	 * @throws ExecutionException if the request failed.
+	 * @throws InterruptedException if the refresh is interrupted.
+	 * @throws TimeoutException if the deadline passed before the request completed.
+	 */
+	private <T> T getBeforeRefreshDeadline(Future<T> future) throws ExecutionException, InterruptedException, TimeoutException {
+		return future.get(Math.max(0, refreshDeadlineTimestamp - clock.millis()), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Sends a single TCP connection attempt to the gateway, used by {@link HaivisionDataLoader} while {@link #circuitBreaker} is open.
+	 * The attempt runs on the shared {@link TcpPingService}, so it costs no API request and waits one ping timeout at most.
+	 *
+	 * @return true if the gateway accepted the connection.
+	 */
+	private boolean probeGateway() {
+		try {
+			TcpPingResult result = TcpPingService.getInstance().ping(this.host, this.getPort(), 1, this.getPingTimeout());
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Probe of %s on port %s %s", host, this.getPort(), result.isSuccessful() ? "succeeded" : "failed"));
+			}
+			return result.isSuccessful();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Unable to probe " + host, e);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Publishes the snapshot of a refresh. The changes of the controls applied after the refresh started may not be
+	 * reflected in the data it retrieved, they are applied on top of the snapshot until a later refresh covers them.
+	 *
+	 * @param snapshot the snapshot built by the refresh.
+	 * @param refreshTimestamp time the refresh started.
+	 */
+	private void publishSnapshot(StatisticsSnapshot snapshot, long refreshTimestamp) {
+		controlPatches.values().removeIf(patch -> patch.timestamp < refreshTimestamp);
+		if (routeAggregationEnabled) {
+			statisticsSnapshot.set(snapshot);
+			return;
+		}
+		statisticsSnapshot.updateAndGet(current -> {
+			Map<String, String> values = new HashMap<>();
+			for (Map.Entry<RouteTarget, ControlPatch> entry : controlPatches.entrySet()) {
+				values.put(getRouteStatusProperty(entry.getKey()), entry.getValue().status);
+			}
+			return values.isEmpty() ? snapshot : snapshot.withStatistics(values);
+		});
+	}
+
+	/**
+	 * Records the status set by a control on a route. Without route aggregation, the status is applied to a copy of the current
+	 * snapshot, published without waiting for a refresh in flight, and the next statistics are delivered even if the latest refresh failed.
+	 * With route aggregation, the status is only reported by the aggregated device of the route.
+	 *
+	 * @param target the route.
+	 * @param status the status set by the control.
+	 */
+	private void applyControlPatch(RouteTarget target, String status) {
+		// the patch is recorded before the snapshot is replaced, so a refresh publishing at the same time either sees it or is patched after
+		controlPatches.put(target, new ControlPatch(clock.millis(), status));
+		if (routeAggregationEnabled) {
+			return;
+		}
+		Map<String, String> values = Collections.singletonMap(getRouteStatusProperty(target), status);
+		statisticsSnapshot.updateAndGet(current -> current == null ? null : current.withStatistics(values));
+		emergencyDelivery.set(true);
+	}
+
+	/**
+	 * Retrieves the name of the status property of a route in the adapter statistics.
+	 *
+	 * @param target the route.
+	 * @return the property name.
+	 */
+	private String getRouteStatusProperty(RouteTarget target) {
+		return target.group + HaivisionConstant.HASH + RouteInfoEnum.STATUS.getName();
+	}
+
+	/**
+	 * Writes the latest snapshot to the warm start file, if {@link #warmStartDirectory} is set and {@link #warmStartInterval} elapsed.
+	 * A failure is only logged, the snapshot is written again after the next refresh.
+	 */
+	private void saveWarmStartSnapshot() {
+		long currentTimestamp = clock.millis();
+		StatisticsSnapshot snapshot = statisticsSnapshot.get();
+		if (StringUtils.isNullOrEmpty(warmStartDirectory) || snapshot == null || currentTimestamp - warmStartTimestamp < warmStartInterval) {
+			return;
+		}
+		warmStartTimestamp = currentTimestamp;
+		try {
+			new WarmStartSnapshot(snapshot.getTimestamp(), snapshot.getStatistics(), getWarmStartRoutes()).write(getWarmStartFile());
+		} catch (Exception e) {
+			logger.warn("Unable to write the warm start snapshot " + getWarmStartFile(), e);
+		}
+	}
+
+	/**
+	 * Retrieves the routes to write to the warm start file: the aggregated devices, or the routes with controls in the adapter statistics.
+	 *
+	 * @return the routes.
+	 */
+	private List<WarmStartSnapshot.Route> getWarmStartRoutes() {
+		List<WarmStartSnapshot.Route> routes = new ArrayList<>();
+		if (routeAggregationEnabled) {
+			for (AggregatedRoute aggregatedRoute : aggregatedRoutes.values()) {
+				routes.add(new WarmStartSnapshot.Route(aggregatedRoute.target.deviceId, aggregatedRoute.target.group, aggregatedRoute.route));
+			}
+			return routes;
+		}
+		Map<String, RouteTarget> targets = routeTargets;
+		Set<String> deviceIds = targets.values().stream().map(target -> target.deviceId).collect(Collectors.toSet());
+		for (String id : deviceIds) {
+			for (RouteInfo route : routeInfoCache.getRoutes(id).values()) {
+				String group = getRouteGroupName(id, route.getName());
+				if (targets.containsKey(group)) {
+					routes.add(new WarmStartSnapshot.Route(id, group, route));
+				}
+			}
+		}
+		return routes;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Publishes the statistics and routes of the warm start file, if {@link #warmStartDirectory} is set and the file is recent enough,
+	 * so they are reported until the first refresh completes. The restored data is marked with {@link HaivisionConstant#DATA_STALE}.
+	 * The controls of the restored routes are rebuilt when {@link #routeControlsEnabled} is set.
 	 */
-	@Override
-	protected void authenticate() throws Exception {
+	private void loadWarmStartSnapshot() {
+		if (StringUtils.isNullOrEmpty(warmStartDirectory)) {
+			return;
+		}
+		Path file = getWarmStartFile();
+		if (!Files.isRegularFile(file)) {
+			return;
+		}
+		try {
+			WarmStartSnapshot warmStartSnapshot = WarmStartSnapshot.read(file);
+			if (clock.millis() - warmStartSnapshot.getTimestamp() > HaivisionConstant.WARM_START_MAX_AGE) {
+				return;
+			}
+			Map<String, String> stats = new HashMap<>(warmStartSnapshot.getStatistics());
+			stats.put(HaivisionConstant.DATA_STALE, HaivisionConstant.TRUE);
+			List<AdvancedControllableProperty> controls = new ArrayList<>();
+			Map<String, RouteTarget> targets = new HashMap<>();
+			if (!routeAggregationEnabled && routeControlsEnabled) {
+				for (WarmStartSnapshot.Route item : warmStartSnapshot.getRoutes()) {
+					String routeId = item.getRoute().getId();
+					if (StringUtils.isNullOrEmpty(routeId)) {
+						continue;
+					}
+					for (AdvancedControllableProperty control : routeControlsCache.computeIfAbsent(item.getGroup(), key -> createRouteControls(key + HaivisionConstant.HASH))) {
+						stats.put(control.getName(), HaivisionConstant.EMPTY);
+						controls.add(control);
+					}
+					targets.put(item.getGroup(), new RouteTarget(item.getGroup(), item.getDeviceId(), routeId));
+				}
+			}
+			if (!statisticsSnapshot.compareAndSet(null, new StatisticsSnapshot(stats, controls, warmStartSnapshot.getTimestamp(), true))) {
+				return;
+			}
+			routeTargets = targets;
+			if (routeAggregationEnabled) {
+				Map<String, AggregatedRoute> routes = new LinkedHashMap<>();
+				for (WarmStartSnapshot.Route item : warmStartSnapshot.getRoutes()) {
+					RouteInfo route = item.getRoute();
+					route.getFingerprint();
+					routes.put(route.getId(), new AggregatedRoute(new RouteTarget(item.getGroup(), item.getDeviceId(), route.getId()), route, null, routeStatisticsEnabled, true));
+				}
+				aggregatedRoutes = Collections.unmodifiableMap(routes);
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Loaded the warm start snapshot %s with %s routes", file, warmStartSnapshot.getRoutes().size()));
+			}
+		} catch (Exception e) {
+			logger.warn("Unable to load the warm start snapshot " + file, e);
+		}
+	}
 
+	/**
+	 * Retrieves the warm start file of the adapter, named after the host, port and login it monitors with,
+	 * and a hash of the settings that shape the snapshot, so adapters monitoring the same gateway differently never share a file.
+	 *
+	 * @return the path of the file.
+	 */
+	private Path getWarmStartFile() {
+		int settingsHash = Objects.hash(filterByRouteName, filterAllRouteName, routeStatisticsEnabled, routeControlsEnabled, routeAggregationEnabled,
+				adapterMetricsEnabled);
+		String name = String.format("haivision-srt-%s-%s-%s-%08x.snapshot", this.getHost(), this.getPort(), this.getLogin(), settingsHash)
+				.replaceAll("[^A-Za-z0-9._-]", "_");
+		return Paths.get(warmStartDirectory, name);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Checks and ensures that the authentication cookie is valid.
+	 *
+	 * The session is not verified against the server on every cycle: it is considered valid as long as it has been used
+	 * within {@link #sessionTimeout}, minus a safety margin. If the authentication cookie is missing or about to expire,
+	 * this method will initiate a new cookie session. A session rejected earlier than expected is handled
+	 * by {@link #executeWithSession(Callable)}.
+	 *
+	 * @throws Exception if an error occurs during the authentication check or session initialization.
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
+	private void checkAuthentication() throws Exception {
+		long idleTime = clock.millis() - lastSessionActivity;
+		if (StringUtils.isNullOrEmpty(authenticationCookie) || idleTime >= sessionTimeout - HaivisionConstant.SESSION_EXPIRY_MARGIN) {
+			initializeCookieSession();
 		}
-
-		super.internalInit();
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Runs a request that needs the session. If the server rejects the session with 401/403, a new session is
+	 * initialized once and the request is retried once.
+	 * When several requests are rejected at the same time, only the first one logs in again, the others retry with the new session.
+	 *
+	 * @param request the request to run.
+	 * @param <T> type of the response.
+	 * @return the response.
+	 * @throws Exception if the request fails, or fails again after logging in.
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
-			deleteCookieSession();
-		}
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
+	private <T> T executeWithSession(Callable<T> request) throws Exception {
+		String usedCookie = authenticationCookie;
+		T response;
+		try {
+			response = request.call();
+		} catch (Exception e) {
+			if (!isSessionRejected(e)) {
+				throw e;
+			}
+			logger.info("Session ID " + usedCookie + " was rejected, logging in again");
+			renewCookieSession(usedCookie);
+			response = request.call();
 		}
-		localExtendedStatistics = null;
-		cacheValue.clear();
-		super.internalDestroy();
+		lastSessionActivity = clock.millis();
+		return response;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Initializes a new cookie session unless another request has already replaced the rejected one.
+	 *
+	 * @param rejectedCookie the session ID that was rejected.
+	 * @throws FailedLoginException if the login credentials are incorrect or the server rejects the login.
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
-		headers.set("Content-Type", "application/json");
-		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
-			headers.set(HaivisionConstant.COOKIE, "sessionID=" + this.authenticationCookie);
+	private synchronized void renewCookieSession(String rejectedCookie) throws FailedLoginException {
+		if (Objects.equals(rejectedCookie, authenticationCookie)) {
+			initializeCookieSession();
 		}
-		return super.putExtraRequestHeaders(httpMethod, uri, headers);
 	}
 
 	/**
-	 * Checks and ensures that the authentication cookie is valid.
-	 *
-	 * If the authentication cookie is missing or invalid, this method will
-	 * initiate a new cookie session.
+	 * Checks whether an error means that the server did not accept the session.
 	 *
-	 * @throws Exception if an error occurs during the authentication check or session initialization.
+	 * @param e the error of a request.
+	 * @return true if the server answered with 401 or 403.
 	 */
-	private void checkAuthentication() throws Exception {
-		if (StringUtils.isNullOrEmpty(authenticationCookie)) {
-			initializeCookieSession();
-		} else {
-			checkValidCookieSession();
+	private boolean isSessionRejected(Exception e) {
+		if (e instanceof FailedLoginException) {
+			return true;
 		}
+		if (e instanceof CommandFailureException) {
+			int statusCode = ((CommandFailureException) e).getStatusCode();
+			return statusCode == HttpStatus.UNAUTHORIZED.value() || statusCode == HttpStatus.FORBIDDEN.value();
+		}
+		return false;
 	}
 
 	/**
@@ -364,6 +1795,7 @@ public class HaivisionGatewayCommunicator extends RestCommunicator implements Mo
 			JsonNode response = this.doPost(HaivisionCommand.API_SESSION, bodyRequest, JsonNode.class);
 			if (response != null && response.has(HaivisionConstant.RESPONSE) && response.get(HaivisionConstant.RESPONSE).has(HaivisionConstant.SESSION_ID)) {
 				this.authenticationCookie = response.get(HaivisionConstant.RESPONSE).get(HaivisionConstant.SESSION_ID).asText();
+				this.lastSessionActivity = clock.millis();
 				return;
 			}
 			this.authenticationCookie = HaivisionConstant.EMPTY;
@@ -371,28 +1803,28 @@ public class HaivisionGatewayCommunicator extends RestCommunicator implements Mo
 		} catch (FailedLoginException ex) {
 			throw new FailedLoginException("Unable to login. Please check device credentials");
 		} catch (Exception e) {
+			// the gateway answers a login with rejected credentials with 401 or 403
+			if (isSessionRejected(e)) {
+				throw new FailedLoginException("Unable to login. Please check device credentials");
+			}
 			throw new ResourceNotReachableException("Unable to retrieve the authorization token, endpoint not reachable", e);
 		}
 	}
 
 	/**
-	 * Verifies if the current authentication cookie session is still valid.
+	 * Retrieves the rejected login that caused an error, if any. A login rejected while a request renews its session
+	 * is wrapped by the phase of the refresh that sent the request.
 	 *
-	 * This method sends a request to the server to validate the current session.
-	 * If the session is invalid or an error occurs, a new session is initialized.
-	 *
-	 * @throws Exception if an error occurs during the validation of the cookie session.
+	 * @param e the error of a refresh.
+	 * @return the rejected login, or null if the error was not caused by rejected credentials.
 	 */
-	private void checkValidCookieSession() throws Exception {
-		try {
-			JsonNode response = this.doGet(HaivisionCommand.API_SESSION, JsonNode.class);
-			if (response == null || response.has(HaivisionConstant.ERROR)) {
-				initializeCookieSession();
+	private FailedLoginException getFailedLoginException(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof FailedLoginException) {
+				return (FailedLoginException) cause;
 			}
-		} catch (Exception e) {
-			logger.info("Invalid session ID " + this.authenticationCookie);
-			initializeCookieSession();
 		}
+		return null;
 	}
 
 	/**
@@ -413,21 +1845,34 @@ public class HaivisionGatewayCommunicator extends RestCommunicator implements Mo
 	}
 
 	/**
-	 * Retrieves monitoring properties for a device and populates the cache with the device's information.
+	 * Retrieves monitoring properties for every device reported by the manager and populates the cache with the device's information.
+	 * When more than one device is reported, the properties of each device are namespaced by the device name.
+	 * <p>
+	 * The manager only reports the devices as a whole, so the device list is requested when either the device status
+	 * ({@link #deviceStatusPollingInterval}) or the static information ({@link #deviceInfoTtl}) is due, and skipped otherwise.
+	 * A response received for the status only refreshes the dynamic properties, unless it shows that a device was added, removed
+	 * or changed its static information, in which case everything is refreshed.
 	 *
 	 * @throws ResourceNotReachableException if an error occurs when retrieving the device information.
 	 */
 	private void retrieveMonitoringProperties() {
+		long now = clock.millis();
+		boolean deviceInfoDue = deviceIds.isEmpty() || now - deviceInfoTimestamp >= deviceInfoTtl;
+		// cycles do not start exactly one polling interval apart, half an interval of tolerance keeps the cadence stable
+		boolean deviceStatusDue = deviceStatusPollingInterval <= pollingInterval || now - deviceStatusTimestamp >= deviceStatusPollingInterval - pollingInterval / 2;
+		if (!deviceInfoDue && !deviceStatusDue) {
+			return;
+		}
 		try {
-			JsonNode response = this.doGet(HaivisionCommand.GET_DEVICE_INFO, JsonNode.class);
+			JsonNode response = executeWithSession(() -> this.doGet(HaivisionCommand.GET_DEVICE_INFO, JsonNode.class));
 			if (response != null && response.isArray()) {
-				JsonNode deviceInfo = response.get(0);
-				deviceId = deviceInfo.at("/_id").asText();
-				for (DeviceInfoEnum item : DeviceInfoEnum.values()) {
-					if (deviceInfo.has(item.getField())) {
-						cacheValue.put(item.getName(), deviceInfo.get(item.getField()).asText());
-					}
+				if (deviceInfoDue || isDeviceInfoChanged(response)) {
+					updateDeviceInfo(response);
+					deviceInfoTimestamp = now;
+				} else {
+					updateDeviceStatus(response);
 				}
+				deviceStatusTimestamp = now;
 			}
 		} catch (Exception e) {
 			throw new ResourceNotReachableException("Error when retrieving device info", e);
@@ -435,280 +1880,659 @@ public class HaivisionGatewayCommunicator extends RestCommunicator implements Mo
 	}
 
 	/**
-	 * Populates the provided statistics map with monitoring properties from the cache.
+	 * Replaces the cached information of every device with the content of a device list response.
 	 *
-	 * @param stats a map to be populated with the device monitoring properties.
+	 * @param response the device list returned by the manager.
 	 */
-	private void populateMonitoringProperties(Map<String, String> stats) {
-		for (DeviceInfoEnum item : DeviceInfoEnum.values()) {
-			String name = item.getName();
-			String value = getDefaultValueForNullData(cacheValue.get(name));
-			switch (item) {
-				case LAST_CONNECTED:
-					stats.put(name, formatMillisecondsToDate(value));
-					break;
-				case SERIAL_NUMBER:
-					stats.put(name, value.replace(HaivisionConstant.SPACE, HaivisionConstant.EMPTY));
-					break;
-				default:
-					stats.put(name, value);
+	private void updateDeviceInfo(JsonNode response) {
+		deviceIds.clear();
+		deviceGroups.clear();
+		cacheValue.clear();
+		Set<String> groups = new HashSet<>();
+		for (JsonNode deviceInfo : response) {
+			String id = deviceInfo.at("/_id").asText();
+			if (StringUtils.isNullOrEmpty(id) || deviceIds.contains(id)) {
+				continue;
+			}
+			String group = HaivisionConstant.EMPTY;
+			if (response.size() > 1) {
+				String deviceName = deviceInfo.path(DeviceInfoEnum.DEVICE_NAME.getField()).asText();
+				group = StringUtils.isNullOrEmpty(deviceName) || !groups.add(deviceName) ? id : deviceName;
+			}
+			deviceIds.add(id);
+			deviceGroups.put(id, group);
+			for (DeviceInfoEnum item : DeviceInfoEnum.values()) {
+				if (deviceInfo.has(item.getField())) {
+					cacheValue.put(getDevicePropertyName(id, item.getName()), deviceInfo.get(item.getField()).asText());
+				}
 			}
 		}
 	}
 
 	/**
-	 * Retrieves routing information for the device and populates the cache with route details.
+	 * Refreshes the dynamic properties of the known devices with the content of a device list response.
 	 *
-	 * @throws ResourceNotReachableException if an error occurs when retrieving route information.
+	 * @param response the device list returned by the manager.
 	 */
-	private void retrieveRouteInfo() {
-		try {
-			JsonNode response = this.doGet(String.format(HaivisionCommand.GET_ALL_ROUTE, deviceId), JsonNode.class);
-			if (response != null && response.has(HaivisionConstant.DATA) && response.get(HaivisionConstant.DATA).isArray()) {
-				allRouteNameSet.clear();
-				for (JsonNode item : response.get(HaivisionConstant.DATA)) {
-					String group = item.get(HaivisionConstant.NAME).asText();
-					allRouteNameSet.add(group);
-					for (RouteInfoEnum routeInfo : RouteInfoEnum.values()) {
-						if (item.has(routeInfo.getField())) {
-							if (routeInfo.equals(RouteInfoEnum.SOURCE) || routeInfo.equals(RouteInfoEnum.DESTINATION)) {
-								cacheValue.put(group + HaivisionConstant.HASH + routeInfo.getName(), getDefaultValueForNullData(item.get(routeInfo.getField()).toString()));
-
-							} else {
-								cacheValue.put(group + HaivisionConstant.HASH + routeInfo.getName(), getDefaultValueForNullData(item.get(routeInfo.getField()).asText()));
-							}
-						}
-					}
+	private void updateDeviceStatus(JsonNode response) {
+		for (JsonNode deviceInfo : response) {
+			String id = deviceInfo.at("/_id").asText();
+			if (!deviceGroups.containsKey(id)) {
+				continue;
+			}
+			for (DeviceInfoEnum item : DeviceInfoEnum.values()) {
+				if (!item.isDynamic()) {
+					continue;
+				}
+				String name = getDevicePropertyName(id, item.getName());
+				if (deviceInfo.has(item.getField())) {
+					cacheValue.put(name, deviceInfo.get(item.getField()).asText());
+				} else {
+					cacheValue.remove(name);
 				}
 			}
-		} catch (Exception e) {
-			throw new ResourceNotReachableException("Error when retrieving route info", e);
 		}
 	}
 
 	/**
-	 * Populates the provided statistics map with route information from the cache.
+	 * Checks whether a device list response differs from the cached devices in anything but their status.
 	 *
-	 * @param stats a map to be populated with the route information.
+	 * @param response the device list returned by the manager.
+	 * @return true if a device was added or removed, or if the static information of a device changed.
 	 */
-	private void populateRouteInfo(Map<String, String> stats) {
-		if (StringUtils.isNullOrEmpty(filterAllRouteName) || HaivisionConstant.FALSE.equalsIgnoreCase(filterAllRouteName)
-			|| !HaivisionConstant.TRUE.equalsIgnoreCase(filterAllRouteName)) {
-			if (StringUtils.isNullOrEmpty(filterByRouteName)) {
-				return;
-			} else {
-				allRouteNameSet = convertStringToSet(filterByRouteName);
+	private boolean isDeviceInfoChanged(JsonNode response) {
+		Set<String> ids = new HashSet<>();
+		for (JsonNode deviceInfo : response) {
+			String id = deviceInfo.at("/_id").asText();
+			if (StringUtils.isNullOrEmpty(id) || !ids.add(id)) {
+				continue;
+			}
+			if (!deviceGroups.containsKey(id)) {
+				return true;
+			}
+			for (DeviceInfoEnum item : DeviceInfoEnum.values()) {
+				if (item.isDynamic()) {
+					continue;
+				}
+				String value = deviceInfo.has(item.getField()) ? deviceInfo.get(item.getField()).asText() : null;
+				if (!Objects.equals(value, cacheValue.get(getDevicePropertyName(id, item.getName())))) {
+					return true;
+				}
 			}
 		}
-		for (String name : allRouteNameSet) {
-			for (RouteInfoEnum item : RouteInfoEnum.values()) {
-				String nameProperty = name + HaivisionConstant.HASH + item.getName();
-				String value = getDefaultValueForNullData(cacheValue.get(nameProperty));
+		return ids.size() != deviceIds.size();
+	}
+
+	/**
+	 * Populates the provided statistics map with monitoring properties of every device from the cache.
+	 *
+	 * @param stats a map to be populated with the device monitoring properties.
+	 */
+	private void populateMonitoringProperties(Map<String, String> stats) {
+		for (String id : deviceIds) {
+			for (DeviceInfoEnum item : DeviceInfoEnum.values()) {
+				String name = getDevicePropertyName(id, item.getName());
+				String value = getDefaultValueForNullData(cacheValue.get(name));
 				switch (item) {
-					case SOURCE:
-						populateSourceInfo(stats, value, name);
-						break;
-					case DESTINATION:
-						populateDestinationInfo(stats, value, name);
+					case LAST_CONNECTED:
+						stats.put(name, formatter.formatMillisecondsToDate(value));
 						break;
-					case UPTIME:
-						stats.put(nameProperty, convertTimeFormat(value));
+					case SERIAL_NUMBER:
+						stats.put(name, value.replace(HaivisionConstant.SPACE, HaivisionConstant.EMPTY));
 						break;
 					default:
-						stats.put(nameProperty, value);
-						break;
+						stats.put(name, value);
 				}
 			}
 		}
 	}
 
 	/**
-	 * Populates the provided statistics map with source information from the given JSON string.
+	 * Retrieves routing information for every device and populates the cache with route details.
+	 * The first page of every device is requested concurrently on {@link #executorService} and tells how many routes the device has,
+	 * the remaining pages of all devices are then requested concurrently as well, so the whole retrieval takes about as long
+	 * as the slowest pages instead of the sum of all of them. The pages are awaited until {@link #refreshDeadline} at most.
 	 *
-	 * @param stats a map to be populated with the source information.
-	 * @param jsonString a JSON string containing the source information.
-	 * @param name the name of the route for which the source information is being populated.
+	 * @throws ResourceNotReachableException if an error occurs when retrieving route information.
 	 */
-	private void populateSourceInfo(Map<String, String> stats, String jsonString, String name) {
-		if (jsonString.equalsIgnoreCase(HaivisionConstant.NONE)) {
-			return;
-		}
+	private void retrieveRouteInfo() {
+		List<Future<?>> requests = new ArrayList<>();
 		try {
-			JsonNode node = objectMapper.readTree(jsonString);
-			for (RouteConfigurationEnum item : RouteConfigurationEnum.values()) {
-				if (!node.has(item.getField())) {
-					continue;
+			Map<String, Future<RoutePage>> firstPages = new LinkedHashMap<>();
+			for (String id : deviceIds) {
+				firstPages.put(id, executorService.submit(() -> retrieveRoutePage(id, 1)));
+			}
+			requests.addAll(firstPages.values());
+			Map<String, List<RoutePage>> pagesByDevice = new LinkedHashMap<>();
+			Map<String, List<Future<List<RoutePage>>>> remainingPages = new LinkedHashMap<>();
+			for (Map.Entry<String, Future<RoutePage>> entry : firstPages.entrySet()) {
+				RoutePage firstPage = getBeforeRefreshDeadline(entry.getValue());
+				List<RoutePage> pages = new ArrayList<>();
+				pages.add(firstPage);
+				pagesByDevice.put(entry.getKey(), pages);
+				List<Future<List<RoutePage>>> futures = submitRemainingRoutePages(entry.getKey(), firstPage);
+				requests.addAll(futures);
+				remainingPages.put(entry.getKey(), futures);
+			}
+			for (Map.Entry<String, List<Future<List<RoutePage>>>> entry : remainingPages.entrySet()) {
+				for (Future<List<RoutePage>> future : entry.getValue()) {
+					pagesByDevice.get(entry.getKey()).addAll(getBeforeRefreshDeadline(future));
 				}
-				String value = getDefaultValueForNullData(node.get(item.getField()).asText());
-				switch (item) {
-					case ADDRESS:
-						String port = node.get("port").asText();
-						stats.put(name + HaivisionConstant.HASH + HaivisionConstant.SOURCE + item.getName(), value + HaivisionConstant.COLON + port);
-						break;
-					case PROTOCOL:
-						value = value.equalsIgnoreCase("http") ? "HLS" : value.toUpperCase();
-						stats.put(name + HaivisionConstant.HASH + HaivisionConstant.SOURCE + item.getName(), value);
-						break;
-					case TYPE:
-						value = value.equalsIgnoreCase("hls") ? "Server" : uppercaseFirstCharacter(value);
-						stats.put(name + HaivisionConstant.HASH + HaivisionConstant.SOURCE + item.getName(), value);
-						break;
-					case STATUS:
-						stats.put(name + HaivisionConstant.HASH + HaivisionConstant.SOURCE + item.getName(), uppercaseFirstCharacter(value));
-						break;
-					default:
-						stats.put(name + HaivisionConstant.HASH + HaivisionConstant.SOURCE + item.getName(), value);
-						break;
+			}
+			long fetchTimestamp = clock.millis();
+			int routesParsed = 0;
+			for (Map.Entry<String, List<RoutePage>> entry : pagesByDevice.entrySet()) {
+				for (RoutePage response : entry.getValue()) {
+					routeInfoCache.update(entry.getKey(), response.getRoutes(), fetchTimestamp);
+					routesParsed += response.getRoutes().size();
 				}
 			}
+			adapterMetrics.setRoutesParsed(routesParsed);
+			int evicted = routeInfoCache.evict(fetchTimestamp, routeEvictionGracePeriod, maxRouteCacheSize);
+			if (evicted > 0 && logger.isDebugEnabled()) {
+				logger.debug(String.format("Evicted %s routes from the route cache, %s routes left", evicted, routeInfoCache.size()));
+			}
+		} catch (ExecutionException e) {
+			throw new ResourceNotReachableException("Error when retrieving route info", e.getCause());
+		} catch (TimeoutException e) {
+			throw new ResourceNotReachableException(String.format("Refresh deadline of %s ms exceeded while retrieving route info", refreshDeadline), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResourceNotReachableException("Interrupted while retrieving route info", e);
 		} catch (Exception e) {
-			logger.error("Error while populate the Source Info", e);
+			throw new ResourceNotReachableException("Error when retrieving route info", e);
+		} finally {
+			// pages left over by a failed retrieval are not needed anymore
+			requests.forEach(future -> future.cancel(true));
 		}
 	}
 
 	/**
-	 * Populates the provided statistics map with destination information from the given JSON string.
+	 * Submits the requests for the route pages that follow the first page of a device.
+	 * When the total count is known every page is requested on its own, otherwise a single task keeps reading pages
+	 * until the gateway returns a partial one.
 	 *
-	 * @param stats a map to be populated with the destination information.
-	 * @param jsonString a JSON string containing the destination information.
-	 * @param name the name of the route for which the destination information is being populated.
+	 * @param id the ID of the device.
+	 * @param firstPage the first page response of the device.
+	 * @return the pending pages, in page order.
 	 */
-	private void populateDestinationInfo(Map<String, String> stats, String jsonString, String name) {
-		if (jsonString.equalsIgnoreCase(HaivisionConstant.NONE)) {
-			return;
+	private List<Future<List<RoutePage>>> submitRemainingRoutePages(String id, RoutePage firstPage) {
+		List<Future<List<RoutePage>>> futures = new ArrayList<>();
+		int total = firstPage.getCount();
+		if (total > routePageSize) {
+			int pageCount = (total + routePageSize - 1) / routePageSize;
+			for (int page = 2; page <= pageCount; page++) {
+				final int pageNumber = page;
+				futures.add(executorService.submit(() -> Collections.singletonList(retrieveRoutePage(id, pageNumber))));
+			}
+		} else if (total < 0 && isFullRoutePage(firstPage)) {
+			futures.add(executorService.submit(() -> {
+				List<RoutePage> pages = new ArrayList<>();
+				RoutePage lastPage = firstPage;
+				int page = 1;
+				while (isFullRoutePage(lastPage)) {
+					lastPage = retrieveRoutePage(id, ++page);
+					pages.add(lastPage);
+				}
+				return pages;
+			}));
 		}
+		return futures;
+	}
+
+	/**
+	 * Retrieves a single page of routes for a device.
+	 * The response body is read with {@link #routeResponseParser} while it is being received, so the full JSON tree
+	 * of the page is never built.
+	 *
+	 * @param id the ID of the device.
+	 * @param page the 1-based page number to request.
+	 * @return the parsed page.
+	 * @throws Exception if the request fails.
+	 */
+	private RoutePage retrieveRoutePage(String id, int page) throws Exception {
+		return executeWithSession(() -> doGetStreaming(String.format(HaivisionCommand.GET_ALL_ROUTE, id, page, routePageSize),
+				response -> routeResponseParser.parse(response.getBody())));
+	}
+
+	/**
+	 * Checks whether a route page is full, meaning that the next page may contain more routes.
+	 *
+	 * @param response the parsed page.
+	 * @return true if the page holds exactly {@link #routePageSize} routes.
+	 */
+	private boolean isFullRoutePage(RoutePage response) {
+		return response.getRoutes().size() >= routePageSize;
+	}
+
+	/**
+	 * Sends a GET request and hands the raw response over to the given extractor, without buffering the body.
+	 * Error statuses are reported the same way {@link RestCommunicator} reports them for the other requests.
+	 *
+	 * @param uri the request uri, relative to the device address.
+	 * @param responseExtractor reads the response while it is being received.
+	 * @param <T> type of the extracted value.
+	 * @return the extracted value.
+	 * @throws Exception if the request fails.
+	 */
+	private <T> T doGetStreaming(String uri, ResponseExtractor<T> responseExtractor) throws Exception {
+		HttpHeaders headers = putExtraRequestHeaders(HttpMethod.GET, uri, new HttpHeaders());
 		try {
-			JsonNode node = objectMapper.readTree(jsonString);
-			if (!node.isArray()) {
-				return;
+			return obtainRestTemplate().execute(URI.create(buildStreamingRequestUrl(uri)), HttpMethod.GET,
+					request -> request.getHeaders().putAll(headers), responseExtractor);
+		} catch (HttpStatusCodeException e) {
+			if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+				FailedLoginException failedLoginException = new FailedLoginException("Invalid authentication credentials for " + uri);
+				failedLoginException.initCause(e);
+				throw failedLoginException;
 			}
-			int index = 1;
-			for (JsonNode destination : node) {
-				String destinationIndex = node.size() == 1 ? HaivisionConstant.EMPTY : String.valueOf(index);
-				for (RouteConfigurationEnum item : RouteConfigurationEnum.values()) {
-					if (!destination.has(item.getField())) {
-						continue;
+			throw new CommandFailureException(this.host, uri, e.getResponseBodyAsString(), e.getRawStatusCode(), e);
+		} catch (ResourceAccessException e) {
+			throw new ResourceNotReachableException("Cannot reach resource at " + uri, e);
+		}
+	}
+
+	/**
+	 * Builds the absolute url of a request, the same way {@link RestCommunicator} does.
+	 *
+	 * @param uri the request uri, relative to the device address.
+	 * @return the absolute url.
+	 */
+	private String buildStreamingRequestUrl(String uri) {
+		StringBuilder url = new StringBuilder(this.getProtocol()).append("://");
+		if (this.host.indexOf(':') >= 0 && !this.host.startsWith("[")) {
+			url.append('[').append(this.host).append(']');
+		} else {
+			url.append(this.host);
+		}
+		url.append(':').append(this.getPort());
+		String baseUri = this.getBaseUri();
+		if (StringUtils.isNotNullOrEmpty(baseUri)) {
+			url.append(baseUri.startsWith("/") ? HaivisionConstant.EMPTY : "/").append(baseUri);
+		}
+		return url.append(url.charAt(url.length() - 1) == '/' ? HaivisionConstant.EMPTY : "/").append(uri).toString();
+	}
+
+	/**
+	 * Selects the routes to report, according to {@link #filterAllRouteName} and {@link #filterByRouteName}.
+	 *
+	 * @return the names of the routes to report, grouped by device ID, empty if no route is reported.
+	 */
+	private Map<String, Set<String>> selectRouteNames() {
+		boolean filterRoutes = StringUtils.isNullOrEmpty(filterAllRouteName) || HaivisionConstant.FALSE.equalsIgnoreCase(filterAllRouteName)
+				|| !HaivisionConstant.TRUE.equalsIgnoreCase(filterAllRouteName);
+		if (filterRoutes && StringUtils.isNullOrEmpty(filterByRouteName)) {
+			return Collections.emptyMap();
+		}
+		if (filterRoutes) {
+			updateFilteredRouteNames();
+		}
+		Map<String, Set<String>> routeNames = new LinkedHashMap<>();
+		for (String id : deviceIds) {
+			routeNames.put(id, filterRoutes ? filteredRouteNames.getOrDefault(id, Collections.emptySet()) : routeInfoCache.getRoutes(id).keySet());
+		}
+		return routeNames;
+	}
+
+	/**
+	 * Populates the provided statistics map with route information from the cache.
+	 * When {@link #routeControlsEnabled} is set, the control buttons of the routes are added as well.
+	 *
+	 * @param stats a map to be populated with the route information.
+	 * @param controls a list to be populated with the route controls.
+	 * @param selectedRouteNames the names of the routes to report, grouped by device ID.
+	 */
+	private void populateRouteInfo(Map<String, String> stats, List<AdvancedControllableProperty> controls, Map<String, Set<String>> selectedRouteNames) {
+		Set<String> populatedGroups = new HashSet<>();
+		Map<String, RouteTarget> targets = new HashMap<>();
+		for (Map.Entry<String, Set<String>> entry : selectedRouteNames.entrySet()) {
+			Map<String, RouteInfo> routes = routeInfoCache.getRoutes(entry.getKey());
+			for (String routeName : entry.getValue()) {
+				String group = getRouteGroupName(entry.getKey(), routeName);
+				RouteInfo route = routes.get(routeName);
+				RouteProperties routeProperties = routePropertiesCache.computeIfAbsent(group, RouteProperties::new);
+				RoutePropertyNames propertyNames = routeProperties.getPropertyNames();
+				if (routeProperties.isOutdated(route)) {
+					routeProperties.update(route, routePropertiesBuilder.build(propertyNames, route));
+				}
+				stats.putAll(routeProperties.getProperties());
+				stats.put(propertyNames.getRouteProperty(RouteInfoEnum.UPTIME), formatter.convertTimeFormat(getDefaultValueForNullData(route.getElapsedTime())));
+				if (routeStatisticsEnabled) {
+					Map<String, String> routeStatistics = routeStatisticsCache.get(group);
+					if (routeStatistics != null) {
+						stats.putAll(routeStatistics);
 					}
-					String value = getDefaultValueForNullData(destination.get(item.getField()).asText());
-					switch (item) {
-						case ADDRESS:
-							String port = destination.get("port").asText();
-							stats.put(name + HaivisionConstant.HASH + HaivisionConstant.DESTINATION + destinationIndex + item.getName(), value + HaivisionConstant.COLON + port);
-							break;
-						case PROTOCOL:
-							value = value.equalsIgnoreCase("http") ? "HLS" : value.toUpperCase();
-							stats.put(name + HaivisionConstant.HASH + HaivisionConstant.DESTINATION + destinationIndex + item.getName(), value);
-							break;
-						case TYPE:
-							value = value.equalsIgnoreCase("hls") ? "Server" : uppercaseFirstCharacter(value);
-							stats.put(name + HaivisionConstant.HASH + HaivisionConstant.DESTINATION + destinationIndex + item.getName(), value);
-							break;
-						case STATUS:
-							stats.put(name + HaivisionConstant.HASH + HaivisionConstant.DESTINATION + destinationIndex + item.getName(), uppercaseFirstCharacter(value));
-							break;
-						default:
-							stats.put(name + HaivisionConstant.HASH + HaivisionConstant.DESTINATION + destinationIndex + item.getName(), value);
-							break;
+					stats.put(propertyNames.getStatisticsStaleProperty(), String.valueOf(routeStatistics == null || staleRouteStatistics.contains(group)));
+				}
+				if (routeControlsEnabled && StringUtils.isNotNullOrEmpty(route.getId())) {
+					for (AdvancedControllableProperty control : routeControlsCache.computeIfAbsent(group, key -> createRouteControls(key + HaivisionConstant.HASH))) {
+						stats.put(control.getName(), HaivisionConstant.EMPTY);
+						controls.add(control);
 					}
+					targets.put(group, new RouteTarget(group, entry.getKey(), route.getId()));
 				}
-				index++;
+				populatedGroups.add(group);
 			}
-		} catch (Exception e) {
-			logger.error("Error while populate the Source Info", e);
 		}
+		routePropertiesCache.keySet().retainAll(populatedGroups);
+		routeControlsCache.keySet().retainAll(targets.keySet());
+		routeTargets = targets;
+		adapterMetrics.setRoutesEmitted(populatedGroups.size());
 	}
 
 	/**
-	 * Converts a comma-separated string into a set of trimmed strings.
+	 * Publishes the routes to report as aggregated devices. The devices themselves are only built when they are requested.
+	 * The routes are no longer flattened into the statistics of the adapter, but {@link #routePropertiesCache} is kept for the
+	 * published routes: their property names are still used to build their SRT statistics on every cycle.
 	 *
-	 * @param input the comma-separated string to convert.
-	 * @return a set containing the trimmed strings.
+	 * @param selectedRouteNames the names of the routes to report, grouped by device ID.
 	 */
-	private Set<String> convertStringToSet(String input) {
-		return Arrays.stream(input.split(","))
-				.map(String::trim)
-				.flatMap(value -> getAllApproximateMatches(value).stream())
-				.filter(Objects::nonNull)
-				.collect(Collectors.toSet());
+	private void publishAggregatedRoutes(Map<String, Set<String>> selectedRouteNames) {
+		Map<String, AggregatedRoute> routes = new LinkedHashMap<>();
+		for (Map.Entry<String, Set<String>> entry : selectedRouteNames.entrySet()) {
+			Map<String, RouteInfo> deviceRoutes = routeInfoCache.getRoutes(entry.getKey());
+			for (String routeName : entry.getValue()) {
+				RouteInfo route = deviceRoutes.get(routeName);
+				if (StringUtils.isNullOrEmpty(route.getId())) {
+					continue;
+				}
+				// the fingerprint is computed lazily, it is computed here so the threads building the devices only read it
+				route.getFingerprint();
+				String group = getRouteGroupName(entry.getKey(), routeName);
+				Map<String, String> routeStatistics = routeStatisticsEnabled ? routeStatisticsCache.get(group) : null;
+				boolean statisticsStale = routeStatisticsEnabled && (routeStatistics == null || staleRouteStatistics.contains(group));
+				routes.put(route.getId(), new AggregatedRoute(new RouteTarget(group, entry.getKey(), route.getId()), route, routeStatistics, statisticsStale, false));
+			}
+		}
+		aggregatedRouteProperties.keySet().retainAll(routes.keySet());
+		aggregatedRouteControls.keySet().retainAll(routes.keySet());
+		aggregatedRoutes = Collections.unmodifiableMap(routes);
+		routePropertiesCache.keySet().retainAll(routes.values().stream().map(route -> route.target.group).collect(Collectors.toSet()));
+		routeControlsCache.clear();
+		routeTargets = Collections.emptyMap();
+		adapterMetrics.setRoutesEmitted(routes.size());
 	}
 
 	/**
-	 * Gets all names from allRouteNameSet that approximately match the input string.
+	 * Builds the aggregated devices of some routes. Large requests are split into at most {@link #maxConcurrentRequests} batches
+	 * built in parallel on {@link #controlExecutorService}, smaller ones are built by the calling thread.
 	 *
-	 * @param value the input string to check.
-	 * @return a set of all names that match, or an empty set if no matches are found.
+	 * @param routes the routes to build.
+	 * @return the aggregated devices, in the order of the routes.
+	 * @throws Exception if the build is interrupted or fails.
 	 */
-	private Set<String> getAllApproximateMatches(String value) {
-		Set<String> matches = new HashSet<>();
-		for (String routeName : allRouteNameSet) {
-			if (routeName.equalsIgnoreCase(value) || routeName.toLowerCase().contains(value.toLowerCase())) {
-				matches.add(routeName);
+	private List<AggregatedDevice> buildAggregatedDevices(Collection<AggregatedRoute> routes) throws Exception {
+		List<AggregatedRoute> routeList = new ArrayList<>(routes);
+		ExecutorService executor = controlExecutorService;
+		int batchCount = Math.min(maxConcurrentRequests, routeList.size() / HaivisionConstant.MIN_AGGREGATED_DEVICE_BATCH);
+		if (executor == null || batchCount <= 1) {
+			return buildAggregatedDeviceBatch(routeList);
+		}
+		int batchSize = (routeList.size() + batchCount - 1) / batchCount;
+		List<Future<List<AggregatedDevice>>> futures = new ArrayList<>(batchCount);
+		for (int start = 0; start < routeList.size(); start += batchSize) {
+			List<AggregatedRoute> batch = routeList.subList(start, Math.min(routeList.size(), start + batchSize));
+			futures.add(executor.submit(() -> buildAggregatedDeviceBatch(batch)));
+		}
+		List<AggregatedDevice> devices = new ArrayList<>(routeList.size());
+		try {
+			for (Future<List<AggregatedDevice>> future : futures) {
+				devices.addAll(future.get());
 			}
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		} finally {
+			futures.forEach(future -> future.cancel(true));
 		}
-		return matches;
+		return devices;
 	}
 
 	/**
-	 * Formats a string representing milliseconds into a date string in the format "MMM d, yyyy, h:mm a GMT".
+	 * Builds the aggregated devices of a batch of routes.
 	 *
-	 * @param inputValue the string representing milliseconds.
-	 * @return the formatted date string, or a default value if the input is "NONE" or invalid.
+	 * @param routes the routes to build.
+	 * @return the aggregated devices, in the order of the routes.
 	 */
-	private String formatMillisecondsToDate(String inputValue) {
-		if (inputValue.equals(HaivisionConstant.NONE)) {
-			return inputValue;
+	private List<AggregatedDevice> buildAggregatedDeviceBatch(List<AggregatedRoute> routes) {
+		List<AggregatedDevice> devices = new ArrayList<>(routes.size());
+		for (AggregatedRoute route : routes) {
+			devices.add(buildAggregatedDevice(route));
 		}
-		try {
-			long milliseconds = Long.parseLong(inputValue);
-			Date date = new Date(milliseconds);
-			SimpleDateFormat dateFormat = new SimpleDateFormat("MMM d, yyyy, h:mm a");
-			dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
-			return dateFormat.format(date);
-		} catch (Exception e) {
-			logger.error("Error when convert date data");
-			return HaivisionConstant.NONE;
+		return devices;
+	}
+
+	/**
+	 * Builds the aggregated device of a route. The route properties are only rebuilt when the route changed,
+	 * the uptime, SRT statistics, pending control status and controls are added to a copy of them.
+	 * The device is reported online unless the route is in error or was restored from the warm start snapshot.
+	 *
+	 * @param aggregatedRoute the route.
+	 * @return the aggregated device.
+	 */
+	private AggregatedDevice buildAggregatedDevice(AggregatedRoute aggregatedRoute) {
+		RouteInfo route = aggregatedRoute.route;
+		String group = aggregatedRoute.target.group;
+		RouteProperties routeProperties = aggregatedRouteProperties.computeIfAbsent(route.getId(), id -> new RouteProperties(HaivisionConstant.EMPTY));
+		RoutePropertyNames propertyNames = routeProperties.getPropertyNames();
+		Map<String, String> stats;
+		synchronized (routeProperties) {
+			if (routeProperties.isOutdated(route)) {
+				routeProperties.update(route, routePropertiesBuilder.build(propertyNames, route));
+			}
+			stats = new HashMap<>(routeProperties.getProperties());
+			if (aggregatedRoute.statistics != null) {
+				for (Map.Entry<String, String> entry : aggregatedRoute.statistics.entrySet()) {
+					stats.put(entry.getKey().substring(group.length() + 1), entry.getValue());
+				}
+			}
+			if (routeStatisticsEnabled) {
+				stats.put(propertyNames.getStatisticsStaleProperty(), String.valueOf(aggregatedRoute.statisticsStale));
+			}
+		}
+		if (aggregatedRoute.restored) {
+			stats.put(HaivisionConstant.DATA_STALE, HaivisionConstant.TRUE);
+		}
+		stats.put(propertyNames.getRouteProperty(RouteInfoEnum.UPTIME), formatter.convertTimeFormat(getDefaultValueForNullData(route.getElapsedTime())));
+		ControlPatch patch = controlPatches.get(aggregatedRoute.target);
+		if (patch != null) {
+			stats.put(propertyNames.getRouteProperty(RouteInfoEnum.STATUS), patch.status);
+		}
+		List<AdvancedControllableProperty> controls = new ArrayList<>();
+		if (routeControlsEnabled) {
+			for (AdvancedControllableProperty control : aggregatedRouteControls.computeIfAbsent(route.getId(), id -> createRouteControls(HaivisionConstant.EMPTY))) {
+				stats.put(control.getName(), HaivisionConstant.EMPTY);
+				controls.add(control);
+			}
+		}
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(route.getId());
+		device.setDeviceName(group);
+		// a route restored from the warm start snapshot is not known to be up yet
+		device.setDeviceOnline(!aggregatedRoute.restored && !HaivisionConstant.ROUTE_ERROR_STATUS.equalsIgnoreCase(route.getStatus()));
+		device.setProperties(stats);
+		device.setControllableProperties(controls);
+		return device;
+	}
+
+	/**
+	 * Creates the control buttons of a route.
+	 *
+	 * @param prefix the prefix of the button names, the statistics group of the route followed by {@link HaivisionConstant#HASH},
+	 * or empty for an aggregated device.
+	 * @return the buttons, one per {@link RouteControlEnum}.
+	 */
+	private List<AdvancedControllableProperty> createRouteControls(String prefix) {
+		List<AdvancedControllableProperty> controls = new ArrayList<>();
+		for (RouteControlEnum item : RouteControlEnum.values()) {
+			controls.add(ControllablePropertyFactory.createButton(prefix + item.getName(), item.getLabel(), item.getLabel(), 0));
+		}
+		return controls;
+	}
+
+	/**
+	 * Retrieves the SRT transport statistics of the routes to report, when {@link #routeStatisticsEnabled} is set.
+	 * The requests run on {@link #statisticsExecutorService} and the cycle waits for them at most {@link #routeStatisticsTimeBudget},
+	 * and never past {@link #refreshDeadline}.
+	 * Requests still running by then are collected by a later cycle, meanwhile their routes keep their last statistics and are marked stale.
+	 * Stable and healthy routes are requested less often, following {@link #routePollingSchedule}.
+	 *
+	 * @param selectedRouteNames the names of the routes to report, grouped by device ID.
+	 * @throws ResourceNotReachableException if the refresh is interrupted.
+	 */
+	private void retrieveRouteStatistics(Map<String, Set<String>> selectedRouteNames) {
+		if (!routeStatisticsEnabled) {
+			pendingRouteStatistics.values().forEach(future -> future.cancel(true));
+			pendingRouteStatistics.clear();
+			routeStatisticsCache.clear();
+			staleRouteStatistics.clear();
+			routePollingSchedule.clear();
+			return;
+		}
+		long currentTimestamp = clock.millis();
+		long deadline = Math.min(currentTimestamp + routeStatisticsTimeBudget, refreshDeadlineTimestamp);
+		Set<String> requestedGroups = new HashSet<>();
+		staleRouteStatistics.clear();
+		for (Map.Entry<String, Set<String>> entry : selectedRouteNames.entrySet()) {
+			String id = entry.getKey();
+			Map<String, RouteInfo> routes = routeInfoCache.getRoutes(id);
+			for (String routeName : entry.getValue()) {
+				String group = getRouteGroupName(id, routeName);
+				RouteInfo route = routes.get(routeName);
+				String routeId = route.getId();
+				requestedGroups.add(group);
+				if (StringUtils.isNullOrEmpty(routeId)) {
+					staleRouteStatistics.add(group);
+				} else if (!pendingRouteStatistics.containsKey(group)) {
+					boolean due = routePollingSchedule.isDue(group, route, currentTimestamp, pollingInterval, maxRoutePollingInterval);
+					if (due || !routeStatisticsCache.containsKey(group)) {
+						pendingRouteStatistics.put(group, statisticsExecutorService.submit(() -> retrieveStatisticsOfRoute(id, routeId)));
+					}
+				}
+			}
+		}
+		Iterator<Map.Entry<String, Future<RouteStatistics>>> iterator = pendingRouteStatistics.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Future<RouteStatistics>> entry = iterator.next();
+			String group = entry.getKey();
+			if (!requestedGroups.contains(group)) {
+				entry.getValue().cancel(true);
+				iterator.remove();
+				continue;
+			}
+			try {
+				RouteStatistics routeStatistics = entry.getValue().get(Math.max(0, deadline - clock.millis()), TimeUnit.MILLISECONDS);
+				iterator.remove();
+				RoutePropertyNames propertyNames = routePropertiesCache.computeIfAbsent(group, RouteProperties::new).getPropertyNames();
+				routeStatisticsCache.put(group, routePropertiesBuilder.buildStatistics(propertyNames, routeStatistics));
+			} catch (TimeoutException e) {
+				staleRouteStatistics.add(group);
+			} catch (ExecutionException e) {
+				iterator.remove();
+				staleRouteStatistics.add(group);
+				routePollingSchedule.reset(group);
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Unable to retrieve the statistics of route %s", group), e.getCause());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ResourceNotReachableException("Interrupted while retrieving route statistics", e);
+			}
 		}
+		routeStatisticsCache.keySet().retainAll(requestedGroups);
+		routePollingSchedule.retainAll(requestedGroups);
 	}
 
 	/**
-	 * Converts a time string in the format "hours:minutes:seconds" into a formatted string representing days, hours, and minutes.
+	 * Retrieves the SRT transport statistics of a single route.
 	 *
-	 * @param timeStr the time string to convert.
-	 * @return the formatted time string, or a default value if the input is "NONE" or invalid.
+	 * @param id the ID of the device that owns the route.
+	 * @param routeId the ID of the route.
+	 * @return the statistics of the route source and destinations.
+	 * @throws Exception if the request fails.
 	 */
-	private String convertTimeFormat(String timeStr) {
-		if (HaivisionConstant.NONE.equals(timeStr) || "00:00:00".equals(timeStr)) {
-			return timeStr.equals("00:00:00") ? "No Activity" : HaivisionConstant.NONE;
+	private RouteStatistics retrieveStatisticsOfRoute(String id, String routeId) throws Exception {
+		JsonNode response = executeWithSession(() -> this.doGet(String.format(HaivisionCommand.GET_ROUTE_STATISTICS, id, routeId), JsonNode.class));
+		RouteStatistics routeStatistics = new RouteStatistics();
+		if (response == null) {
+			return routeStatistics;
+		}
+		JsonNode source = response.path(RouteInfoEnum.SOURCE.getField());
+		if (source.isObject()) {
+			routeStatistics.setSource(readStatisticsValues(source));
 		}
-		String[] parts = timeStr.split(HaivisionConstant.COLON);
-		if (parts.length < 2) {
-			return HaivisionConstant.NONE;
+		for (JsonNode destination : response.path(RouteInfoEnum.DESTINATION.getField())) {
+			routeStatistics.getDestinations().add(readStatisticsValues(destination));
 		}
-		int hours = Integer.parseInt(parts[0]);
-		int minutes = Integer.parseInt(parts[1]);
-		int seconds = Integer.parseInt(parts[2]);
+		return routeStatistics;
+	}
 
-		return String.format("%d hour(s) %d minute(s) %d second(s)", hours, minutes, seconds);
+	/**
+	 * Reads the SRT statistics of a route source or destination.
+	 *
+	 * @param endpoint the endpoint statistics returned by the gateway.
+	 * @return the values, indexed by {@link RouteStatisticsEnum} ordinal, null for the missing ones.
+	 */
+	private String[] readStatisticsValues(JsonNode endpoint) {
+		RouteStatisticsEnum[] items = RouteStatisticsEnum.values();
+		String[] values = new String[items.length];
+		for (RouteStatisticsEnum item : items) {
+			JsonNode value = endpoint.get(item.getField());
+			values[item.ordinal()] = value == null || value.isNull() ? null : value.asText();
+		}
+		return values;
 	}
 
 	/**
-	 * check value is null or empty
+	 * Recomputes {@link #filteredRouteNames} when {@link #filterByRouteName} or the cached route names have changed
+	 * since the last computation, otherwise the previous result is kept.
+	 */
+	private void updateFilteredRouteNames() {
+		String filter = filterByRouteName;
+		boolean filterChanged = routeNameFilter == null || !routeNameFilter.getFilter().equals(filter);
+		if (!filterChanged && filteredRouteNamesVersion == routeInfoCache.getVersion()) {
+			return;
+		}
+		if (filterChanged) {
+			routeNameFilter = new RouteNameFilter(filter);
+		}
+		filteredRouteNames.clear();
+		for (String id : deviceIds) {
+			filteredRouteNames.put(id, routeNameFilter.filter(routeInfoCache.getRoutes(id).keySet()));
+		}
+		filteredRouteNamesVersion = routeInfoCache.getVersion();
+	}
+
+	/**
+	 * Builds the statistics property name of a device property, namespaced by the device group if there is one.
 	 *
-	 * @param value input value
-	 * @return value after checking
+	 * @param id the ID of the device.
+	 * @param property the property name.
+	 * @return the statistics property name.
 	 */
-	private String getDefaultValueForNullData(String value) {
-		return StringUtils.isNotNullOrEmpty(value) && !"null".equalsIgnoreCase(value) ? value : HaivisionConstant.NONE;
+	private String getDevicePropertyName(String id, String property) {
+		String group = deviceGroups.getOrDefault(id, HaivisionConstant.EMPTY);
+		return group.isEmpty() ? property : group + HaivisionConstant.HASH + property;
+	}
+
+	/**
+	 * Builds the statistics group of a route, prefixed by the device group if there is one.
+	 *
+	 * @param id the ID of the device that owns the route.
+	 * @param routeName the route name.
+	 * @return the statistics group of the route.
+	 */
+	private String getRouteGroupName(String id, String routeName) {
+		String group = deviceGroups.getOrDefault(id, HaivisionConstant.EMPTY);
+		return group.isEmpty() ? routeName : group + HaivisionConstant.COLON + routeName;
 	}
 
 	/**
-	 * capitalize the first character of the string
+	 * check value is null or empty
 	 *
-	 * @param input input string
-	 * @return string after fix
+	 * @param value input value
+	 * @return value after checking
 	 */
-	private String uppercaseFirstCharacter(String input) {
-		char firstChar = input.charAt(0);
-		return Character.toUpperCase(firstChar) + input.substring(1);
+	private String getDefaultValueForNullData(String value) {
+		return StringUtils.isNotNullOrEmpty(value) && !"null".equalsIgnoreCase(value) ? value : HaivisionConstant.NONE;
 	}
 }
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RefreshPhaseEnum;
+
+/**
+ * Performance metrics of the adapter: the duration of every refresh phase over a rolling window,
+ * HTTP request counters and the number of routes parsed and emitted.
+ * Phase durations are recorded by the thread refreshing the statistics, the counters may be updated from any thread.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AdapterMetrics {
+	private static final String GROUP = "AdapterMetrics#";
+
+	/**
+	 * Rolling window of the durations of a phase, in milliseconds
+	 */
+	private static class PhaseDurations {
+		private final long[] samples;
+		private int count;
+		private int next;
+		private long last;
+
+		private PhaseDurations(int windowSize) {
+			samples = new long[windowSize];
+		}
+
+		private void record(long duration) {
+			samples[next] = duration;
+			next = (next + 1) % samples.length;
+			count = Math.min(count + 1, samples.length);
+			last = duration;
+		}
+	}
+
+	private final PhaseDurations[] phases;
+	private final AtomicLong httpRequests = new AtomicLong();
+	private final AtomicLong httpErrors = new AtomicLong();
+	private final AtomicLong httpResponseBytes = new AtomicLong();
+	private final AtomicLong refreshes = new AtomicLong();
+	private final AtomicLong refreshErrors = new AtomicLong();
+	private volatile int routesParsed;
+	private volatile int routesEmitted;
+
+	/**
+	 * Constructor for AdapterMetrics.
+	 *
+	 * @param windowSize number of samples the percentiles of each phase are computed from.
+	 */
+	public AdapterMetrics(int windowSize) {
+		phases = new PhaseDurations[RefreshPhaseEnum.values().length];
+		for (int i = 0; i < phases.length; i++) {
+			phases[i] = new PhaseDurations(windowSize);
+		}
+	}
+
+	/**
+	 * Records the duration of a phase.
+	 *
+	 * @param phase the phase.
+	 * @param startNanos value of {@link System#nanoTime()} when the phase started.
+	 */
+	public synchronized void recordPhase(RefreshPhaseEnum phase, long startNanos) {
+		phases[phase.ordinal()].record((System.nanoTime() - startNanos) / 1000000);
+	}
+
+	/**
+	 * Counts an HTTP request sent to the gateway.
+	 */
+	public void recordHttpRequest() {
+		httpRequests.incrementAndGet();
+	}
+
+	/**
+	 * Counts an HTTP request that failed or was answered with an error status.
+	 */
+	public void recordHttpError() {
+		httpErrors.incrementAndGet();
+	}
+
+	/**
+	 * Counts bytes received in HTTP response bodies.
+	 *
+	 * @param bytes the number of bytes.
+	 */
+	public void recordHttpResponseBytes(long bytes) {
+		httpResponseBytes.addAndGet(bytes);
+	}
+
+	/**
+	 * Counts a completed refresh.
+	 */
+	public void recordRefresh() {
+		refreshes.incrementAndGet();
+	}
+
+	/**
+	 * Counts a failed refresh.
+	 */
+	public void recordRefreshError() {
+		refreshErrors.incrementAndGet();
+	}
+
+	/**
+	 * Sets the number of routes parsed by the latest refresh.
+	 *
+	 * @param routesParsed the number of routes.
+	 */
+	public void setRoutesParsed(int routesParsed) {
+		this.routesParsed = routesParsed;
+	}
+
+	/**
+	 * Sets the number of routes emitted in the statistics by the latest refresh.
+	 *
+	 * @param routesEmitted the number of routes.
+	 */
+	public void setRoutesEmitted(int routesEmitted) {
+		this.routesEmitted = routesEmitted;
+	}
+
+	/**
+	 * Populates the provided statistics map with the metrics, in the AdapterMetrics group.
+	 *
+	 * @param stats a map to be populated with the metrics.
+	 */
+	public synchronized void populate(Map<String, String> stats) {
+		for (RefreshPhaseEnum phase : RefreshPhaseEnum.values()) {
+			PhaseDurations durations = phases[phase.ordinal()];
+			if (durations.count == 0) {
+				continue;
+			}
+			long[] sorted = Arrays.copyOf(durations.samples, durations.count);
+			Arrays.sort(sorted);
+			String prefix = GROUP + phase.getName();
+			stats.put(prefix + "LastDuration(ms)", String.valueOf(durations.last));
+			stats.put(prefix + "P50Duration(ms)", String.valueOf(percentile(sorted, 50)));
+			stats.put(prefix + "P95Duration(ms)", String.valueOf(percentile(sorted, 95)));
+		}
+		stats.put(GROUP + "HttpRequests", String.valueOf(httpRequests.get()));
+		stats.put(GROUP + "HttpErrors", String.valueOf(httpErrors.get()));
+		stats.put(GROUP + "HttpResponseBytes", String.valueOf(httpResponseBytes.get()));
+		stats.put(GROUP + "Refreshes", String.valueOf(refreshes.get()));
+		stats.put(GROUP + "RefreshErrors", String.valueOf(refreshErrors.get()));
+		stats.put(GROUP + "RoutesParsed", String.valueOf(routesParsed));
+		stats.put(GROUP + "RoutesEmitted", String.valueOf(routesEmitted));
+	}
+
+	/**
+	 * Retrieves a percentile with the nearest-rank method.
+	 *
+	 * @param sorted the sorted samples, not empty.
+	 * @param percentile the percentile, between 1 and 100.
+	 * @return the sample at the percentile.
+	 */
+	private static long percentile(long[] sorted, int percentile) {
+		int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+}
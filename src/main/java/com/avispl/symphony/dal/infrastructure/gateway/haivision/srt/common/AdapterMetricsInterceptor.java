@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Counts the HTTP requests sent to the gateway, their failures and the bytes of their response bodies in {@link AdapterMetrics}.
+ * Response bodies are counted while they are read, nothing is buffered.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class AdapterMetricsInterceptor implements ClientHttpRequestInterceptor {
+	private final AdapterMetrics adapterMetrics;
+
+	/**
+	 * Constructor for AdapterMetricsInterceptor.
+	 *
+	 * @param adapterMetrics the metrics to update.
+	 */
+	public AdapterMetricsInterceptor(AdapterMetrics adapterMetrics) {
+		this.adapterMetrics = adapterMetrics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		adapterMetrics.recordHttpRequest();
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		} catch (IOException e) {
+			adapterMetrics.recordHttpError();
+			throw e;
+		}
+		if (response.getRawStatusCode() >= 400) {
+			adapterMetrics.recordHttpError();
+		}
+		return new CountingResponse(response);
+	}
+
+	/**
+	 * Response whose body counts the bytes read from it
+	 */
+	private class CountingResponse implements ClientHttpResponse {
+		private final ClientHttpResponse response;
+		private InputStream body;
+
+		private CountingResponse(ClientHttpResponse response) {
+			this.response = response;
+		}
+
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return response.getStatusCode();
+		}
+
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return response.getRawStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return response.getStatusText();
+		}
+
+		@Override
+		public void close() {
+			response.close();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (body == null) {
+				body = new FilterInputStream(response.getBody()) {
+					@Override
+					public int read() throws IOException {
+						int value = super.read();
+						if (value >= 0) {
+							adapterMetrics.recordHttpResponseBytes(1);
+						}
+						return value;
+					}
+
+					@Override
+					public int read(byte[] buffer, int offset, int length) throws IOException {
+						int count = super.read(buffer, offset, length);
+						if (count > 0) {
+							adapterMetrics.recordHttpResponseBytes(count);
+						}
+						return count;
+					}
+				};
+			}
+			return body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return response.getHeaders();
+		}
+	}
+}
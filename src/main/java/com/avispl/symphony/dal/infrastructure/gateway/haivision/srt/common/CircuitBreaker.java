@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+/**
+ * Circuit breaker guarding the refresh cycles of an unreachable gateway.
+ * The breaker opens after a number of consecutive failed cycles. While it is open no cycle runs, the gateway is only probed,
+ * first after {@code minProbeInterval} and then twice as late after every failed probe, up to {@code maxProbeInterval}.
+ * A successful probe half opens the breaker: the next cycle runs, and closes the breaker if it succeeds or opens it again otherwise.
+ * <p>
+ * The breaker is updated by the data loader only, its state may be read by any thread.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class CircuitBreaker {
+
+	/**
+	 * State of the breaker, reported as the connection state of the adapter
+	 */
+	public enum State {
+		CLOSED("Connected"),
+		OPEN("Disconnected"),
+		HALF_OPEN("Reconnecting"),
+		;
+		private final String connectionState;
+
+		/**
+		 * Constructor for State.
+		 *
+		 * @param connectionState The connection state reported while the breaker is in this state.
+		 */
+		State(String connectionState) {
+			this.connectionState = connectionState;
+		}
+
+		/**
+		 * Retrieves {@link #connectionState}
+		 *
+		 * @return value of {@link #connectionState}
+		 */
+		public String getConnectionState() {
+			return connectionState;
+		}
+	}
+
+	private final int failureThreshold;
+	private final long minProbeInterval;
+	private final long maxProbeInterval;
+	private volatile State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long probeInterval;
+	private long nextProbeTimestamp;
+
+	/**
+	 * Constructor for CircuitBreaker.
+	 *
+	 * @param failureThreshold number of consecutive failed cycles that open the breaker, at least 1.
+	 * @param minProbeInterval time between the opening of the breaker and the first probe, in milliseconds.
+	 * @param maxProbeInterval maximum time between two probes, in milliseconds.
+	 */
+	public CircuitBreaker(int failureThreshold, long minProbeInterval, long maxProbeInterval) {
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.minProbeInterval = minProbeInterval;
+		this.maxProbeInterval = Math.max(minProbeInterval, maxProbeInterval);
+		this.probeInterval = minProbeInterval;
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Checks whether a refresh cycle may run.
+	 *
+	 * @return true unless the breaker is open.
+	 */
+	public boolean isCallPermitted() {
+		return state != State.OPEN;
+	}
+
+	/**
+	 * Checks whether the open breaker must probe the gateway.
+	 *
+	 * @param currentTimestamp the current time in milliseconds.
+	 * @return true if the breaker is open and the next probe is due.
+	 */
+	public boolean isProbeDue(long currentTimestamp) {
+		return state == State.OPEN && currentTimestamp >= nextProbeTimestamp;
+	}
+
+	/**
+	 * Records a successful cycle, which closes the breaker.
+	 */
+	public void recordSuccess() {
+		consecutiveFailures = 0;
+		probeInterval = minProbeInterval;
+		state = State.CLOSED;
+	}
+
+	/**
+	 * Records a failed cycle. The breaker opens once {@link #failureThreshold} cycles failed in a row,
+	 * or right away if it was half open, in which case the next probe is delayed twice as long as the previous one.
+	 *
+	 * @param currentTimestamp the current time in milliseconds.
+	 */
+	public void recordFailure(long currentTimestamp) {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN) {
+			probeInterval = Math.min(maxProbeInterval, probeInterval * 2);
+			open(currentTimestamp);
+		} else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+			probeInterval = minProbeInterval;
+			open(currentTimestamp);
+		}
+	}
+
+	/**
+	 * Records the outcome of a probe. A gateway that answered half opens the breaker, otherwise the next probe is delayed
+	 * twice as long as this one.
+	 *
+	 * @param successful whether the gateway answered the probe.
+	 * @param currentTimestamp the current time in milliseconds.
+	 */
+	public void recordProbe(boolean successful, long currentTimestamp) {
+		if (state != State.OPEN) {
+			return;
+		}
+		if (successful) {
+			state = State.HALF_OPEN;
+		} else {
+			probeInterval = Math.min(maxProbeInterval, probeInterval * 2);
+			nextProbeTimestamp = currentTimestamp + probeInterval;
+		}
+	}
+
+	/**
+	 * Opens the breaker and schedules the next probe after the current probe interval.
+	 *
+	 * @param currentTimestamp the current time in milliseconds.
+	 */
+	private void open(long currentTimestamp) {
+		nextProbeTimestamp = currentTimestamp + probeInterval;
+		state = State.OPEN;
+	}
+}
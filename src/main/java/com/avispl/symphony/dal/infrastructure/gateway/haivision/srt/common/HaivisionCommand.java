@@ -14,5 +14,7 @@ package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
 public class HaivisionCommand {
 	public final static String API_SESSION ="api/session";
 	public final static String GET_DEVICE_INFO ="api/devices";
-	public final static String GET_ALL_ROUTE ="api/gateway/%s/routes?page=1&pageSize=500";
+	public final static String GET_ALL_ROUTE ="api/gateway/%s/routes?page=%s&pageSize=%s";
+	public final static String GET_ROUTE_STATISTICS ="api/gateway/%s/statistics?routeID=%s";
+	public final static String ROUTE_CONTROL ="api/gateway/%s/routes/%s/%s";
 }
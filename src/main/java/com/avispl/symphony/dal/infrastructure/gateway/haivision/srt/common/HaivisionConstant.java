@@ -24,7 +24,35 @@ public class HaivisionConstant {
 	public static final String SESSION_ID = "sessionID";
 	public static final String ERROR = "error";
 	public static final String DATA = "data";
+	public static final String COUNT = "count";
+	public static final String PORT = "port";
 	public static final String NAME = "name";
 	public static final String SOURCE = "Source";
 	public static final String DESTINATION = "Destination";
+	public static final String DATA_AGE = "DataAge(s)";
+	public static final String DATA_STALE = "DataStale";
+	public static final String CONNECTION_STATE = "ConnectionState";
+	public static final String ROUTE_CACHE_SIZE = "RouteCacheSize";
+	public static final String ROUTE_CACHE_EVICTIONS = "RouteCacheEvictions";
+	public static final String ROUTE_ERROR_STATUS = "error";
+	public static final int DEFAULT_ROUTE_PAGE_SIZE = 500;
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+	public static final int MIN_AGGREGATED_DEVICE_BATCH = 100;
+	public static final long DEFAULT_SESSION_TIMEOUT = 300000;
+	public static final long SESSION_EXPIRY_MARGIN = 30000;
+	public static final long DEFAULT_POLLING_INTERVAL = 30000;
+	public static final long DEFAULT_ROUTE_EVICTION_GRACE_PERIOD = 120000;
+	public static final long DATA_LOADER_TICK = 500;
+	public static final long RETRIEVE_STATISTICS_TIMEOUT = 180000;
+	public static final int FORMATTER_CACHE_SIZE = 1024;
+	public static final long DEFAULT_ROUTE_STATISTICS_TIME_BUDGET = 10000;
+	public static final long DEFAULT_MAX_ROUTE_POLLING_INTERVAL = 600000;
+	public static final int METRICS_WINDOW_SIZE = 100;
+	public static final long CONNECTION_IDLE_MARGIN = 10000;
+	public static final long DEFAULT_DEVICE_INFO_TTL = 3600000;
+	public static final long DEFAULT_WARM_START_INTERVAL = 300000;
+	public static final long WARM_START_MAX_AGE = 86400000;
+	public static final long DEFAULT_REFRESH_DEADLINE = 60000;
+	public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 2;
+	public static final long DEFAULT_MAX_PROBE_INTERVAL = 300000;
 }
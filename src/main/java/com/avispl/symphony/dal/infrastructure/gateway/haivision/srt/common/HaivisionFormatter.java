@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Formats the LastConnected and RouteUptime values reported by the gateway.
+ * The date formatter is immutable and shared, and the formatted values are kept in small LRU caches,
+ * since the same raw values are reported again on most polls.
+ * Instances are safe to use from multiple threads.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class HaivisionFormatter {
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM d, yyyy, h:mm a").withZone(ZoneId.of("GMT"));
+	private static final String NO_ACTIVITY = "No Activity";
+	private static final String ZERO_UPTIME = "00:00:00";
+
+	private final Map<String, String> dateCache;
+	private final Map<String, String> uptimeCache;
+
+	/**
+	 * Constructor for HaivisionFormatter.
+	 *
+	 * @param cacheSize maximum number of formatted values kept for each kind of value.
+	 */
+	public HaivisionFormatter(int cacheSize) {
+		this.dateCache = createCache(cacheSize);
+		this.uptimeCache = createCache(cacheSize);
+	}
+
+	/**
+	 * Creates a cache that drops its least recently used entry once it holds more than the given number of entries.
+	 *
+	 * @param cacheSize the maximum number of entries.
+	 * @return the cache.
+	 */
+	private static Map<String, String> createCache(int cacheSize) {
+		return new LinkedHashMap<String, String>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Formats a string representing milliseconds into a date string in the format "MMM d, yyyy, h:mm a" in GMT.
+	 *
+	 * @param inputValue the string representing milliseconds.
+	 * @return the formatted date string, or "None" if the input is "None" or invalid.
+	 */
+	public String formatMillisecondsToDate(String inputValue) {
+		if (HaivisionConstant.NONE.equals(inputValue)) {
+			return inputValue;
+		}
+		synchronized (dateCache) {
+			String cached = dateCache.get(inputValue);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		String value;
+		try {
+			value = DATE_FORMATTER.format(Instant.ofEpochMilli(Long.parseLong(inputValue)));
+		} catch (Exception e) {
+			value = HaivisionConstant.NONE;
+		}
+		synchronized (dateCache) {
+			dateCache.put(inputValue, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Converts a time string in the format "hours:minutes:seconds" into "h hour(s) m minute(s) s second(s)".
+	 * A time string with only two parts is read as "hours:minutes".
+	 *
+	 * @param timeStr the time string to convert.
+	 * @return the formatted time string, "No Activity" for "00:00:00", or "None" if the input is "None" or invalid.
+	 */
+	public String convertTimeFormat(String timeStr) {
+		if (HaivisionConstant.NONE.equals(timeStr)) {
+			return HaivisionConstant.NONE;
+		}
+		if (ZERO_UPTIME.equals(timeStr)) {
+			return NO_ACTIVITY;
+		}
+		synchronized (uptimeCache) {
+			String cached = uptimeCache.get(timeStr);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		String value = renderUptime(timeStr);
+		synchronized (uptimeCache) {
+			uptimeCache.put(timeStr, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Renders a time string without splitting it, parsing each part in place.
+	 *
+	 * @param timeStr the time string to render.
+	 * @return the rendered time string, or "None" if the input is invalid.
+	 */
+	private static String renderUptime(String timeStr) {
+		int firstColon = timeStr.indexOf(':');
+		if (firstColon < 0) {
+			return HaivisionConstant.NONE;
+		}
+		int secondColon = timeStr.indexOf(':', firstColon + 1);
+		int minutesEnd = secondColon < 0 ? timeStr.length() : secondColon;
+		long hours = parsePart(timeStr, 0, firstColon);
+		long minutes = parsePart(timeStr, firstColon + 1, minutesEnd);
+		long seconds = 0;
+		if (secondColon >= 0) {
+			int thirdColon = timeStr.indexOf(':', secondColon + 1);
+			seconds = parsePart(timeStr, secondColon + 1, thirdColon < 0 ? timeStr.length() : thirdColon);
+		}
+		if (hours == Long.MIN_VALUE || minutes == Long.MIN_VALUE || seconds == Long.MIN_VALUE) {
+			return HaivisionConstant.NONE;
+		}
+		return new StringBuilder(48)
+				.append(hours).append(" hour(s) ")
+				.append(minutes).append(" minute(s) ")
+				.append(seconds).append(" second(s)")
+				.toString();
+	}
+
+	/**
+	 * Parses an int from a part of a string, accepting an optional sign like {@link Integer#parseInt(String)}.
+	 *
+	 * @param value the string.
+	 * @param start index of the first character of the part.
+	 * @param end index after the last character of the part.
+	 * @return the parsed value, or {@link Long#MIN_VALUE} if the part is not a valid int.
+	 */
+	private static long parsePart(String value, int start, int end) {
+		if (start >= end) {
+			return Long.MIN_VALUE;
+		}
+		boolean negative = false;
+		char first = value.charAt(start);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			start++;
+			if (start == end) {
+				return Long.MIN_VALUE;
+			}
+		}
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return Long.MIN_VALUE;
+			}
+			result = result * 10 + digit;
+			if (result > Integer.MAX_VALUE + 1L) {
+				return Long.MIN_VALUE;
+			}
+		}
+		result = negative ? -result : result;
+		return result > Integer.MAX_VALUE ? Long.MIN_VALUE : result;
+	}
+}
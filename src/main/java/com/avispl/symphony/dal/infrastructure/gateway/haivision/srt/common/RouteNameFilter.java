@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled form of the filterByRouteName property.
+ * A route name matches when it contains any of the comma-separated terms, ignoring case.
+ * The terms are compiled once into an Aho-Corasick automaton, so a route name is matched against all terms
+ * in a single pass over its characters, without allocating lowercase copies.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RouteNameFilter {
+	private final String filter;
+	private final Map<Character, Integer>[] transitions;
+	private final int[] failures;
+	private final boolean[] terminals;
+
+	/**
+	 * Constructor for RouteNameFilter.
+	 *
+	 * @param filter comma-separated terms, empty terms are ignored.
+	 */
+	@SuppressWarnings("unchecked")
+	public RouteNameFilter(String filter) {
+		this.filter = filter;
+		List<Map<Character, Integer>> nodes = new ArrayList<>();
+		List<Boolean> terminalNodes = new ArrayList<>();
+		nodes.add(new HashMap<>());
+		terminalNodes.add(false);
+		for (String term : filter.split(",")) {
+			term = term.trim();
+			if (term.isEmpty()) {
+				continue;
+			}
+			int state = 0;
+			for (int i = 0; i < term.length(); i++) {
+				char c = Character.toLowerCase(term.charAt(i));
+				Integer next = nodes.get(state).get(c);
+				if (next == null) {
+					next = nodes.size();
+					nodes.add(new HashMap<>());
+					terminalNodes.add(false);
+					nodes.get(state).put(c, next);
+				}
+				state = next;
+			}
+			terminalNodes.set(state, true);
+		}
+		transitions = nodes.toArray(new Map[0]);
+		failures = new int[transitions.length];
+		terminals = new boolean[transitions.length];
+		for (int i = 0; i < terminals.length; i++) {
+			terminals[i] = terminalNodes.get(i);
+		}
+		buildFailureLinks();
+	}
+
+	/**
+	 * Links every state to the state of its longest proper suffix, breadth first, and marks the states
+	 * whose suffix is a complete term as terminal.
+	 */
+	private void buildFailureLinks() {
+		Deque<Integer> queue = new ArrayDeque<>(transitions[0].values());
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			for (Map.Entry<Character, Integer> transition : transitions[state].entrySet()) {
+				int child = transition.getValue();
+				int failure = failures[state];
+				while (failure != 0 && !transitions[failure].containsKey(transition.getKey())) {
+					failure = failures[failure];
+				}
+				Integer target = transitions[failure].get(transition.getKey());
+				failures[child] = target != null && target != child ? target : 0;
+				terminals[child] |= terminals[failures[child]];
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves {@link #filter}
+	 *
+	 * @return value of {@link #filter}
+	 */
+	public String getFilter() {
+		return filter;
+	}
+
+	/**
+	 * Checks whether a route name contains any of the terms, ignoring case.
+	 *
+	 * @param routeName the route name.
+	 * @return true if the route name matches.
+	 */
+	public boolean matches(String routeName) {
+		int state = 0;
+		for (int i = 0; i < routeName.length(); i++) {
+			char c = Character.toLowerCase(routeName.charAt(i));
+			Integer next = transitions[state].get(c);
+			while (next == null && state != 0) {
+				state = failures[state];
+				next = transitions[state].get(c);
+			}
+			state = next == null ? 0 : next;
+			if (terminals[state]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieves the route names that match the filter.
+	 *
+	 * @param routeNames the route names to filter.
+	 * @return a new set containing the matching route names.
+	 */
+	public Set<String> filter(Collection<String> routeNames) {
+		Set<String> matches = new HashSet<>();
+		for (String routeName : routeNames) {
+			if (matches(routeName)) {
+				matches.add(routeName);
+			}
+		}
+		return matches;
+	}
+}
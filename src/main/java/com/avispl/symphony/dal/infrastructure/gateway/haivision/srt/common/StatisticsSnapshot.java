@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * Immutable statistics published by the adapter.
+ * A snapshot is never modified once published: a refresh publishes a new one, and a control publishes a copy
+ * with its changes applied, so readers can use a snapshot without any lock.
+ * The controllable properties are shared between the copies and must not be modified either.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public final class StatisticsSnapshot {
+	private final Map<String, String> statistics;
+	private final List<AdvancedControllableProperty> controllableProperties;
+	private final long timestamp;
+	private final boolean restored;
+
+	/**
+	 * Constructor for StatisticsSnapshot.
+	 *
+	 * @param statistics the statistics, owned by the snapshot from now on.
+	 * @param controllableProperties the controllable properties, owned by the snapshot from now on.
+	 * @param timestamp time the data of the snapshot was retrieved from the device.
+	 */
+	public StatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controllableProperties, long timestamp) {
+		this(statistics, controllableProperties, timestamp, false);
+	}
+
+	/**
+	 * Constructor for StatisticsSnapshot.
+	 *
+	 * @param statistics the statistics, owned by the snapshot from now on.
+	 * @param controllableProperties the controllable properties, owned by the snapshot from now on.
+	 * @param timestamp time the data of the snapshot was retrieved from the device.
+	 * @param restored true if the snapshot was restored from the warm start snapshot instead of built by a refresh.
+	 */
+	public StatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controllableProperties, long timestamp, boolean restored) {
+		this.statistics = Collections.unmodifiableMap(statistics);
+		this.controllableProperties = Collections.unmodifiableList(controllableProperties);
+		this.timestamp = timestamp;
+		this.restored = restored;
+	}
+
+	/**
+	 * Retrieves {@link #statistics}
+	 *
+	 * @return value of {@link #statistics}
+	 */
+	public Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Retrieves {@link #controllableProperties}
+	 *
+	 * @return value of {@link #controllableProperties}
+	 */
+	public List<AdvancedControllableProperty> getControllableProperties() {
+		return controllableProperties;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves {@link #restored}
+	 *
+	 * @return value of {@link #restored}
+	 */
+	public boolean isRestored() {
+		return restored;
+	}
+
+	/**
+	 * Creates a copy of the snapshot with some statistics changed.
+	 *
+	 * @param values the statistics to add or replace.
+	 * @return the new snapshot, this snapshot is left unchanged.
+	 */
+	public StatisticsSnapshot withStatistics(Map<String, String> values) {
+		Map<String, String> copy = new HashMap<>(statistics);
+		copy.putAll(values);
+		return new StatisticsSnapshot(copy, controllableProperties, timestamp, restored);
+	}
+}
@@ -0,0 +1,347 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteConfigurationEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteEndpoint;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteInfo;
+
+/**
+ * Latest statistics and route model of the adapter, persisted to local disk so a restarted adapter can report them
+ * before its first refresh completes.
+ * The file is a gzip compressed binary stream, written to a temporary file first and then renamed over the previous one,
+ * so a reader never sees a partially written snapshot. Files written with other route fields are rejected.
+ * Strings are written as their UTF-8 length followed by their UTF-8 bytes, so values of any length are kept.
+ * Lengths and counts read from a file are not trusted: nothing is allocated for them up front, so a truncated or corrupt file
+ * fails with an {@link IOException} instead of exhausting the memory.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class WarmStartSnapshot {
+	private static final int MAGIC = 0x48535254;
+	private static final int VERSION = 2;
+	private static final RouteInfoEnum[] ROUTE_FIELDS = RouteInfoEnum.values();
+	private static final RouteConfigurationEnum[] ENDPOINT_FIELDS = RouteConfigurationEnum.values();
+	private static final int READ_CHUNK_SIZE = 8192;
+
+	/**
+	 * Route of the snapshot, with the gateway it belongs to and its statistics group
+	 */
+	public static class Route {
+		private final String deviceId;
+		private final String group;
+		private final RouteInfo route;
+
+		/**
+		 * Constructor for Route.
+		 *
+		 * @param deviceId the ID of the gateway that owns the route.
+		 * @param group the statistics group of the route.
+		 * @param route the route.
+		 */
+		public Route(String deviceId, String group, RouteInfo route) {
+			this.deviceId = deviceId;
+			this.group = group;
+			this.route = route;
+		}
+
+		/**
+		 * Retrieves {@link #deviceId}
+		 *
+		 * @return value of {@link #deviceId}
+		 */
+		public String getDeviceId() {
+			return deviceId;
+		}
+
+		/**
+		 * Retrieves {@link #group}
+		 *
+		 * @return value of {@link #group}
+		 */
+		public String getGroup() {
+			return group;
+		}
+
+		/**
+		 * Retrieves {@link #route}
+		 *
+		 * @return value of {@link #route}
+		 */
+		public RouteInfo getRoute() {
+			return route;
+		}
+	}
+
+	private final long timestamp;
+	private final Map<String, String> statistics;
+	private final List<Route> routes;
+
+	/**
+	 * Constructor for WarmStartSnapshot.
+	 *
+	 * @param timestamp time the data of the snapshot was retrieved from the device.
+	 * @param statistics the statistics of the adapter.
+	 * @param routes the routes reported as aggregated devices, or the routes with controls in the statistics of the adapter.
+	 */
+	public WarmStartSnapshot(long timestamp, Map<String, String> statistics, List<Route> routes) {
+		this.timestamp = timestamp;
+		this.statistics = statistics;
+		this.routes = routes;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves {@link #statistics}
+	 *
+	 * @return value of {@link #statistics}
+	 */
+	public Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Retrieves {@link #routes}
+	 *
+	 * @return value of {@link #routes}
+	 */
+	public List<Route> getRoutes() {
+		return routes;
+	}
+
+	/**
+	 * Writes the snapshot to a file, replacing the previous snapshot atomically.
+	 *
+	 * @param file the snapshot file, its directory is created if needed.
+	 * @throws IOException if the snapshot cannot be written.
+	 */
+	public void write(Path file) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile))))) {
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeInt(ROUTE_FIELDS.length);
+				output.writeInt(ENDPOINT_FIELDS.length);
+				output.writeLong(timestamp);
+				output.writeInt(statistics.size());
+				for (Map.Entry<String, String> entry : statistics.entrySet()) {
+					writeString(output, entry.getKey());
+					writeString(output, entry.getValue());
+				}
+				output.writeInt(routes.size());
+				for (Route route : routes) {
+					writeString(output, route.deviceId);
+					writeString(output, route.group);
+					writeRoute(output, route.route);
+				}
+			}
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Reads a snapshot from a file.
+	 *
+	 * @param file the snapshot file.
+	 * @return the snapshot.
+	 * @throws IOException if the file cannot be read, or was not written by this version of the adapter.
+	 */
+	public static WarmStartSnapshot read(Path file) throws IOException {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION || input.readInt() != ROUTE_FIELDS.length || input.readInt() != ENDPOINT_FIELDS.length) {
+				throw new IOException("Unsupported warm start snapshot " + file);
+			}
+			long timestamp = input.readLong();
+			int statisticsCount = readCount(input);
+			Map<String, String> statistics = new HashMap<>();
+			for (int i = 0; i < statisticsCount; i++) {
+				statistics.put(readString(input), readString(input));
+			}
+			int routeCount = readCount(input);
+			List<Route> routes = new ArrayList<>();
+			for (int i = 0; i < routeCount; i++) {
+				String deviceId = readString(input);
+				String group = readString(input);
+				routes.add(new Route(deviceId, group, readRoute(input)));
+			}
+			return new WarmStartSnapshot(timestamp, statistics, routes);
+		}
+	}
+
+	/**
+	 * Writes the fields of a route.
+	 *
+	 * @param output the stream to write to.
+	 * @param route the route.
+	 * @throws IOException if the route cannot be written.
+	 */
+	private static void writeRoute(DataOutputStream output, RouteInfo route) throws IOException {
+		for (RouteInfoEnum item : ROUTE_FIELDS) {
+			writeString(output, route.getValue(item));
+		}
+		output.writeBoolean(route.getSource() != null);
+		if (route.getSource() != null) {
+			writeEndpoint(output, route.getSource());
+		}
+		List<RouteEndpoint> destinations = route.getDestinations();
+		output.writeInt(destinations == null ? -1 : destinations.size());
+		if (destinations != null) {
+			for (RouteEndpoint destination : destinations) {
+				writeEndpoint(output, destination);
+			}
+		}
+	}
+
+	/**
+	 * Reads the fields of a route.
+	 *
+	 * @param input the stream to read from.
+	 * @return the route.
+	 * @throws IOException if the route cannot be read.
+	 */
+	private static RouteInfo readRoute(DataInputStream input) throws IOException {
+		RouteInfo route = new RouteInfo();
+		for (RouteInfoEnum item : ROUTE_FIELDS) {
+			route.setValue(item, readString(input));
+		}
+		if (input.readBoolean()) {
+			route.setSource(readEndpoint(input));
+		}
+		int destinationCount = input.readInt();
+		if (destinationCount < -1) {
+			throw new IOException("Invalid destination count " + destinationCount);
+		}
+		if (destinationCount >= 0) {
+			List<RouteEndpoint> destinations = new ArrayList<>();
+			for (int i = 0; i < destinationCount; i++) {
+				destinations.add(readEndpoint(input));
+			}
+			route.setDestinations(destinations);
+		}
+		return route;
+	}
+
+	/**
+	 * Writes the fields of a route source or destination.
+	 *
+	 * @param output the stream to write to.
+	 * @param endpoint the endpoint.
+	 * @throws IOException if the endpoint cannot be written.
+	 */
+	private static void writeEndpoint(DataOutputStream output, RouteEndpoint endpoint) throws IOException {
+		for (RouteConfigurationEnum item : ENDPOINT_FIELDS) {
+			writeString(output, endpoint.getValue(item));
+		}
+		writeString(output, endpoint.getPort());
+	}
+
+	/**
+	 * Reads the fields of a route source or destination.
+	 *
+	 * @param input the stream to read from.
+	 * @return the endpoint.
+	 * @throws IOException if the endpoint cannot be read.
+	 */
+	private static RouteEndpoint readEndpoint(DataInputStream input) throws IOException {
+		RouteEndpoint endpoint = new RouteEndpoint();
+		for (RouteConfigurationEnum item : ENDPOINT_FIELDS) {
+			endpoint.setValue(item, readString(input));
+		}
+		endpoint.setPort(readString(input));
+		return endpoint;
+	}
+
+	/**
+	 * Writes a string that may be null, as its UTF-8 length followed by its UTF-8 bytes, or -1 if it is null.
+	 *
+	 * @param output the stream to write to.
+	 * @param value the string.
+	 * @throws IOException if the string cannot be written.
+	 */
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		if (value == null) {
+			output.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+	 *
+	 * @param input the stream to read from.
+	 * @return the string, null if a null string was written.
+	 * @throws IOException if the string cannot be read.
+	 */
+	private static String readString(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length == -1) {
+			return null;
+		}
+		if (length < 0) {
+			throw new IOException("Invalid string length " + length);
+		}
+		// the bytes are read in chunks, so a corrupt length fails at the end of the file instead of allocating it
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(length, READ_CHUNK_SIZE));
+		byte[] chunk = new byte[Math.min(length, READ_CHUNK_SIZE)];
+		for (int remaining = length; remaining > 0; ) {
+			int chunkLength = Math.min(remaining, chunk.length);
+			input.readFully(chunk, 0, chunkLength);
+			bytes.write(chunk, 0, chunkLength);
+			remaining -= chunkLength;
+		}
+		return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads the number of entries that follow.
+	 *
+	 * @param input the stream to read from.
+	 * @return the count.
+	 * @throws IOException if the count cannot be read or is negative.
+	 */
+	private static int readCount(DataInputStream input) throws IOException {
+		int count = input.readInt();
+		if (count < 0) {
+			throw new IOException("Invalid count " + count);
+		}
+		return count;
+	}
+}
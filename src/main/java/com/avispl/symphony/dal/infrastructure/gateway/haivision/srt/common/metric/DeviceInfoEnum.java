@@ -6,38 +6,43 @@ package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metr
 
 /**
  * Enum representing various device information metrics.
+ * Dynamic metrics describe the current state of the device and are refreshed on the status cadence,
+ * the others (identity, network, firmware) rarely change and are refreshed on a long TTL.
  *
  * @author Harry / Symphony Dev Team<br>
  * Created on 8/12/2024
  * @since 1.0.0
  */
 public enum DeviceInfoEnum {
-	DEVICE_ID("DeviceID", "_id"),
-	TYPE("Type", "type"),
-	IP_ADDRESS("IPAddress", "ip"),
-	DEVICE_NAME("DeviceName", "name"),
-	LAST_CONNECTED("LastConnectedAt(GMT)", "lastConnectedAt"),
-	STATUS_CODE("StatusCode", "statusCode"),
-	STATUS("Status", "status"),
-	STATUS_DETAILS("StatusDetails", "statusDetails"),
-	SERIAL_NUMBER("SerialNumber", "serialNumber"),
-	FIRMWARE_VERSION("FirmwareVersion", "firmware"),
-	HAS_ADMIN_ERROR("HasAdminError", "hasAdminError"),
-	PENDING_SYNC("PendingSync", "pendingSync"),
-	LAST_CONNECTION("LastConnection", "lastConnection"),
+	DEVICE_ID("DeviceID", "_id", false),
+	TYPE("Type", "type", false),
+	IP_ADDRESS("IPAddress", "ip", false),
+	DEVICE_NAME("DeviceName", "name", false),
+	LAST_CONNECTED("LastConnectedAt(GMT)", "lastConnectedAt", true),
+	STATUS_CODE("StatusCode", "statusCode", true),
+	STATUS("Status", "status", true),
+	STATUS_DETAILS("StatusDetails", "statusDetails", true),
+	SERIAL_NUMBER("SerialNumber", "serialNumber", false),
+	FIRMWARE_VERSION("FirmwareVersion", "firmware", false),
+	HAS_ADMIN_ERROR("HasAdminError", "hasAdminError", true),
+	PENDING_SYNC("PendingSync", "pendingSync", true),
+	LAST_CONNECTION("LastConnection", "lastConnection", true),
 	;
 	private final String name;
 	private final String field;
+	private final boolean dynamic;
 
 	/**
 	 * Constructor for DeviceInfoMetric.
 	 *
 	 * @param name The name representing the system information category.
 	 * @param field The field associated with the category.
+	 * @param dynamic Whether the metric changes with the state of the device.
 	 */
-	DeviceInfoEnum(String name, String field) {
+	DeviceInfoEnum(String name, String field, boolean dynamic) {
 		this.name = name;
 		this.field = field;
+		this.dynamic = dynamic;
 	}
 
 	/**
@@ -57,4 +62,13 @@ public enum DeviceInfoEnum {
 	public String getField() {
 		return field;
 	}
+
+	/**
+	 * Retrieves {@link #dynamic}
+	 *
+	 * @return value of {@link #dynamic}
+	 */
+	public boolean isDynamic() {
+		return dynamic;
+	}
 }
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric;
+
+/**
+ * Enum representing the phases of a statistics refresh, timed by the adapter metrics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public enum RefreshPhaseEnum {
+	SESSION_CHECK("SessionCheck"),
+	DEVICE_INFO("DeviceInfo"),
+	ROUTE_FETCH("RouteFetch"),
+	FILTERING("Filtering"),
+	ROUTE_STATISTICS("RouteStatistics"),
+	POPULATE("Populate"),
+	REFRESH("Refresh"),
+	;
+	private final String name;
+
+	/**
+	 * Constructor for RefreshPhaseEnum.
+	 *
+	 * @param name The name of the phase.
+	 */
+	RefreshPhaseEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Enum representing the controls of a route.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public enum RouteControlEnum {
+	START("RouteStart", "Start", "start", "starting"),
+	STOP("RouteStop", "Stop", "stop", "stopping"),
+	RESTART("RouteRestart", "Restart", "restart", "restarting"),
+	;
+	private final String name;
+	private final String label;
+	private final String action;
+	private final String pendingStatus;
+
+	/**
+	 * Constructor for RouteControlEnum.
+	 *
+	 * @param name The name of the control property.
+	 * @param label The label of the control button.
+	 * @param action The action sent to the gateway.
+	 * @param pendingStatus The route status reported until the next refresh once the action is accepted.
+	 */
+	RouteControlEnum(String name, String label, String action, String pendingStatus) {
+		this.name = name;
+		this.label = label;
+		this.action = action;
+		this.pendingStatus = pendingStatus;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #label}
+	 *
+	 * @return value of {@link #label}
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * Retrieves {@link #action}
+	 *
+	 * @return value of {@link #action}
+	 */
+	public String getAction() {
+		return action;
+	}
+
+	/**
+	 * Retrieves {@link #pendingStatus}
+	 *
+	 * @return value of {@link #pendingStatus}
+	 */
+	public String getPendingStatus() {
+		return pendingStatus;
+	}
+
+	/**
+	 * Merges two controls sent for the same route in a single batch into the one to run.
+	 * The last control wins, except that a stop followed by a start is a restart.
+	 *
+	 * @param previous the control received first.
+	 * @param next the control received after it.
+	 * @return the control to run.
+	 */
+	public static RouteControlEnum merge(RouteControlEnum previous, RouteControlEnum next) {
+		if (next == START && (previous == STOP || previous == RESTART)) {
+			return RESTART;
+		}
+		return next;
+	}
+
+	/**
+	 * Retrieves the control matching a property name.
+	 *
+	 * @param name the name of the control property, without its group.
+	 * @return the control, empty if the name is not a route control.
+	 */
+	public static Optional<RouteControlEnum> ofName(String name) {
+		return Arrays.stream(values()).filter(item -> item.getName().equals(name)).findFirst();
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric;
+
+/**
+ * Enum representing the SRT transport statistics of a route source or destination.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public enum RouteStatisticsEnum {
+	BITRATE("Bitrate(kbps)", "bitrate"),
+	RTT("RTT(ms)", "rtt"),
+	PACKET_LOSS("PacketLoss", "packetLoss"),
+	RETRANSMITS("Retransmits", "retransmits"),
+	BUFFER("Buffer(ms)", "buffer"),
+	;
+	private final String name;
+	private final String field;
+
+	/**
+	 * Constructor for RouteStatisticsEnum.
+	 *
+	 * @param name The name representing the statistic.
+	 * @param field The field associated with the statistic.
+	 */
+	RouteStatisticsEnum(String name, String field) {
+		this.name = name;
+		this.field = field;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #field}
+	 *
+	 * @return value of {@link #field}
+	 */
+	public String getField() {
+		return field;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.ping;
+
+/**
+ * Outcome of a TCP ping made of several connection attempts.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class TcpPingResult {
+	private final int attempts;
+	private final long[] latencies;
+	private final Exception lastError;
+
+	/**
+	 * Constructor for TcpPingResult.
+	 *
+	 * @param attempts number of connection attempts.
+	 * @param latencies latencies of the successful attempts in nanoseconds, sorted in ascending order.
+	 * @param lastError error of the last failed attempt, null if every attempt succeeded.
+	 */
+	public TcpPingResult(int attempts, long[] latencies, Exception lastError) {
+		this.attempts = attempts;
+		this.latencies = latencies;
+		this.lastError = lastError;
+	}
+
+	/**
+	 * Retrieves {@link #attempts}
+	 *
+	 * @return value of {@link #attempts}
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * Retrieves the number of attempts that connected in time.
+	 *
+	 * @return the number of successful attempts.
+	 */
+	public int getSuccessfulAttempts() {
+		return latencies.length;
+	}
+
+	/**
+	 * Retrieves the number of attempts that failed or timed out.
+	 *
+	 * @return the number of failed attempts.
+	 */
+	public int getFailedAttempts() {
+		return attempts - latencies.length;
+	}
+
+	/**
+	 * Checks whether at least one attempt connected in time.
+	 *
+	 * @return true if the host answered.
+	 */
+	public boolean isSuccessful() {
+		return latencies.length > 0;
+	}
+
+	/**
+	 * Retrieves the median latency of the successful attempts.
+	 *
+	 * @return the median latency in nanoseconds, -1 if no attempt succeeded.
+	 */
+	public long getMedianLatency() {
+		if (latencies.length == 0) {
+			return -1;
+		}
+		int middle = latencies.length / 2;
+		return latencies.length % 2 == 1 ? latencies[middle] : (latencies[middle - 1] + latencies[middle]) / 2;
+	}
+
+	/**
+	 * Retrieves {@link #lastError}
+	 *
+	 * @return value of {@link #lastError}
+	 */
+	public Exception getLastError() {
+		return lastError;
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.ping;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Non-blocking TCP ping shared by every adapter instance.
+ * All the attempts of a ping open a non-blocking {@link SocketChannel} at once and complete on a single selector thread,
+ * under one deadline shared by the attempts. A slow host therefore stalls the caller for one timeout at most,
+ * whatever the number of attempts, and one thread serves the pings of all the adapters of the JVM.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public final class TcpPingService {
+	private static final Log logger = LogFactory.getLog(TcpPingService.class);
+	private static final TcpPingService INSTANCE = new TcpPingService();
+
+	/**
+	 * Extra time the caller waits for the selector thread to report the attempts expired at the deadline, in milliseconds
+	 */
+	private static final long DEADLINE_GRACE_PERIOD = 100;
+
+	/**
+	 * Pending attempts of a single ping
+	 */
+	private static final class PingRequest {
+		private final int attempts;
+		private final CountDownLatch completion;
+		private final long[] latencies;
+		private int successCount;
+		private Exception lastError;
+
+		private PingRequest(int attempts) {
+			this.attempts = attempts;
+			this.completion = new CountDownLatch(attempts);
+			this.latencies = new long[attempts];
+		}
+
+		private synchronized void succeed(long latency) {
+			latencies[successCount++] = latency;
+			completion.countDown();
+		}
+
+		private synchronized void fail(Exception error) {
+			lastError = error;
+			completion.countDown();
+		}
+
+		private synchronized TcpPingResult toResult() {
+			long[] result = Arrays.copyOf(latencies, successCount);
+			Arrays.sort(result);
+			Exception error = lastError;
+			if (error == null && successCount < attempts) {
+				error = new SocketTimeoutException("Connection timed out");
+			}
+			return new TcpPingResult(attempts, result, error);
+		}
+	}
+
+	/**
+	 * Connection attempt waiting on the selector
+	 */
+	private static final class PingAttempt {
+		private final PingRequest request;
+		private final SocketChannel channel;
+		private final long startTime;
+		private final long deadline;
+
+		private PingAttempt(PingRequest request, SocketChannel channel, long startTime, long deadline) {
+			this.request = request;
+			this.channel = channel;
+			this.startTime = startTime;
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * Attempts started by the callers, registered on the selector by the selector thread
+	 */
+	private final Queue<PingAttempt> pendingAttempts = new ConcurrentLinkedQueue<>();
+
+	private Selector selector;
+	private Thread selectorThread;
+
+	private TcpPingService() {
+	}
+
+	/**
+	 * Retrieves the instance shared by every adapter.
+	 *
+	 * @return the TCP ping service.
+	 */
+	public static TcpPingService getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Connects to a host several times in parallel and measures how long each connection takes.
+	 * The call returns once every attempt completed, or when the timeout expired.
+	 *
+	 * @param host the host to ping.
+	 * @param port the TCP port to connect to.
+	 * @param attempts number of connection attempts.
+	 * @param timeout time given to the attempts to connect, in milliseconds.
+	 * @return the outcome of the attempts.
+	 * @throws UnknownHostException if the host cannot be resolved.
+	 * @throws IOException if the selector cannot be opened.
+	 * @throws InterruptedException if the caller is interrupted while waiting for the attempts.
+	 */
+	public TcpPingResult ping(String host, int port, int attempts, int timeout) throws IOException, InterruptedException {
+		InetSocketAddress address = new InetSocketAddress(host, port);
+		if (address.isUnresolved()) {
+			throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
+		}
+		PingRequest request = new PingRequest(attempts);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		for (int i = 0; i < attempts; i++) {
+			startAttempt(request, address, deadline);
+		}
+		long waitTime = deadline - System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEADLINE_GRACE_PERIOD);
+		request.completion.await(waitTime, TimeUnit.NANOSECONDS);
+		return request.toResult();
+	}
+
+	/**
+	 * Opens the connection of an attempt and hands it over to the selector thread if it is not established right away.
+	 *
+	 * @param request the ping the attempt belongs to.
+	 * @param address the address to connect to.
+	 * @param deadline time the attempt expires at, as returned by {@link System#nanoTime()}.
+	 * @throws IOException if the selector cannot be opened.
+	 */
+	private void startAttempt(PingRequest request, InetSocketAddress address, long deadline) throws IOException {
+		SocketChannel channel = null;
+		try {
+			channel = SocketChannel.open();
+			channel.configureBlocking(false);
+			long startTime = System.nanoTime();
+			if (channel.connect(address)) {
+				request.succeed(System.nanoTime() - startTime);
+				closeChannel(channel);
+				return;
+			}
+			pendingAttempts.add(new PingAttempt(request, channel, startTime, deadline));
+		} catch (IOException e) {
+			closeChannel(channel);
+			request.fail(e);
+			return;
+		}
+		obtainSelector().wakeup();
+	}
+
+	/**
+	 * Retrieves the selector, starting the selector thread on first use or after it died.
+	 *
+	 * @return the selector.
+	 * @throws IOException if the selector cannot be opened.
+	 */
+	private synchronized Selector obtainSelector() throws IOException {
+		if (selectorThread == null || !selectorThread.isAlive()) {
+			selector = Selector.open();
+			selectorThread = new Thread(this::runSelector, "Haivision TCP ping");
+			selectorThread.setDaemon(true);
+			selectorThread.start();
+		}
+		return selector;
+	}
+
+	/**
+	 * Loop of the selector thread: registers the new attempts, completes the connected ones and expires the late ones.
+	 */
+	private void runSelector() {
+		Selector currentSelector;
+		synchronized (this) {
+			currentSelector = selector;
+		}
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				registerPendingAttempts(currentSelector);
+				currentSelector.select(expireAttempts(currentSelector));
+				Iterator<SelectionKey> iterator = currentSelector.selectedKeys().iterator();
+				while (iterator.hasNext()) {
+					SelectionKey key = iterator.next();
+					iterator.remove();
+					completeAttempt(key);
+				}
+			} catch (Exception e) {
+				logger.error("Error while waiting for the TCP ping attempts", e);
+				for (SelectionKey key : currentSelector.keys()) {
+					if (key.isValid()) {
+						failAttempt(key, e);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Registers the attempts started since the last selection.
+	 *
+	 * @param currentSelector the selector of the thread.
+	 */
+	private void registerPendingAttempts(Selector currentSelector) {
+		PingAttempt attempt;
+		while ((attempt = pendingAttempts.poll()) != null) {
+			try {
+				attempt.channel.register(currentSelector, SelectionKey.OP_CONNECT, attempt);
+			} catch (ClosedChannelException e) {
+				attempt.request.fail(e);
+			}
+		}
+	}
+
+	/**
+	 * Fails the attempts whose deadline passed.
+	 *
+	 * @param currentSelector the selector of the thread.
+	 * @return time until the next deadline in milliseconds, 0 if no attempt is waiting.
+	 */
+	private long expireAttempts(Selector currentSelector) {
+		long now = System.nanoTime();
+		long nextDeadline = Long.MAX_VALUE;
+		for (SelectionKey key : currentSelector.keys()) {
+			// keys of completed attempts stay in the key set until the next selection
+			if (!key.isValid()) {
+				continue;
+			}
+			PingAttempt attempt = (PingAttempt) key.attachment();
+			if (attempt.deadline - now <= 0) {
+				failAttempt(key, new SocketTimeoutException("Connection timed out"));
+			} else {
+				nextDeadline = Math.min(nextDeadline, attempt.deadline - now);
+			}
+		}
+		return nextDeadline == Long.MAX_VALUE ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextDeadline) + 1);
+	}
+
+	/**
+	 * Completes an attempt whose connection is ready.
+	 *
+	 * @param key the selection key of the attempt.
+	 */
+	private void completeAttempt(SelectionKey key) {
+		PingAttempt attempt = (PingAttempt) key.attachment();
+		try {
+			if (!key.isValid() || !key.isConnectable() || !attempt.channel.finishConnect()) {
+				return;
+			}
+			long latency = System.nanoTime() - attempt.startTime;
+			key.cancel();
+			closeChannel(attempt.channel);
+			attempt.request.succeed(latency);
+		} catch (IOException e) {
+			failAttempt(key, e);
+		}
+	}
+
+	/**
+	 * Fails an attempt and releases its connection.
+	 *
+	 * @param key the selection key of the attempt.
+	 * @param error the reason of the failure.
+	 */
+	private void failAttempt(SelectionKey key, Exception error) {
+		PingAttempt attempt = (PingAttempt) key.attachment();
+		key.cancel();
+		closeChannel(attempt.channel);
+		attempt.request.fail(error);
+	}
+
+	/**
+	 * Closes a channel, ignoring errors.
+	 *
+	 * @param channel the channel to close, may be null.
+	 */
+	private static void closeChannel(SocketChannel channel) {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			logger.debug("Unable to close the TCP ping connection", e);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes of every device, tied to what the latest fetches returned.
+ * A route that is not returned anymore keeps its last known values for a grace period, then it is evicted.
+ * An optional hard cap bounds the total number of routes, evicting the routes seen least recently first.
+ * <p>
+ * The cache is not thread safe, it is only accessed by the thread refreshing the statistics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RouteCache {
+	/**
+	 * Routes of a single device and the last time each of them was returned by the device
+	 */
+	private static class DeviceRoutes {
+		private final Map<String, RouteInfo> routes = new HashMap<>();
+		private final Map<String, Long> lastSeen = new HashMap<>();
+
+		private void remove(String routeName) {
+			routes.remove(routeName);
+			lastSeen.remove(routeName);
+		}
+	}
+
+	private final Map<String, DeviceRoutes> devices = new HashMap<>();
+	private int size;
+	private long evictionCount;
+	private long version;
+
+	/**
+	 * Stores the routes fetched for a device, replacing the previous values of routes with the same name.
+	 *
+	 * @param deviceId the ID of the device.
+	 * @param routes the fetched routes.
+	 * @param timestamp time of the fetch.
+	 */
+	public void update(String deviceId, Collection<RouteInfo> routes, long timestamp) {
+		DeviceRoutes deviceRoutes = devices.computeIfAbsent(deviceId, id -> new DeviceRoutes());
+		Long lastSeen = timestamp;
+		for (RouteInfo route : routes) {
+			if (route.getName() == null) {
+				continue;
+			}
+			if (deviceRoutes.routes.put(route.getName(), route) == null) {
+				size++;
+				version++;
+			}
+			deviceRoutes.lastSeen.put(route.getName(), lastSeen);
+		}
+	}
+
+	/**
+	 * Evicts the routes that have not been returned within the grace period, then the routes seen least recently
+	 * until the cache holds at most maxSize routes.
+	 *
+	 * @param timestamp current time.
+	 * @param gracePeriod time a route is kept after it was last returned, in milliseconds.
+	 * @param maxSize maximum number of routes, 0 or less for no limit.
+	 * @return the number of evicted routes.
+	 */
+	public int evict(long timestamp, long gracePeriod, int maxSize) {
+		int evicted = 0;
+		for (Iterator<DeviceRoutes> deviceIterator = devices.values().iterator(); deviceIterator.hasNext(); ) {
+			DeviceRoutes deviceRoutes = deviceIterator.next();
+			for (Iterator<Map.Entry<String, Long>> iterator = deviceRoutes.lastSeen.entrySet().iterator(); iterator.hasNext(); ) {
+				Map.Entry<String, Long> entry = iterator.next();
+				if (timestamp - entry.getValue() > gracePeriod) {
+					deviceRoutes.routes.remove(entry.getKey());
+					iterator.remove();
+					evicted++;
+				}
+			}
+			if (deviceRoutes.routes.isEmpty()) {
+				deviceIterator.remove();
+			}
+		}
+		size -= evicted;
+		version += evicted;
+		if (maxSize > 0 && size > maxSize) {
+			evicted += evictOldest(size - maxSize);
+		}
+		evictionCount += evicted;
+		return evicted;
+	}
+
+	/**
+	 * Evicts the given number of routes, the ones seen least recently first.
+	 *
+	 * @param count number of routes to evict.
+	 * @return the number of evicted routes.
+	 */
+	private int evictOldest(int count) {
+		List<Map.Entry<DeviceRoutes, Map.Entry<String, Long>>> candidates = new ArrayList<>(size);
+		for (DeviceRoutes deviceRoutes : devices.values()) {
+			for (Map.Entry<String, Long> entry : deviceRoutes.lastSeen.entrySet()) {
+				candidates.add(new AbstractMap.SimpleImmutableEntry<>(deviceRoutes, entry));
+			}
+		}
+		candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().getValue()));
+		int evicted = Math.min(count, candidates.size());
+		for (int i = 0; i < evicted; i++) {
+			Map.Entry<DeviceRoutes, Map.Entry<String, Long>> candidate = candidates.get(i);
+			candidate.getKey().remove(candidate.getValue().getKey());
+		}
+		devices.values().removeIf(deviceRoutes -> deviceRoutes.routes.isEmpty());
+		size -= evicted;
+		version += evicted;
+		return evicted;
+	}
+
+	/**
+	 * Retrieves the routes of a device, mapped by route name.
+	 *
+	 * @param deviceId the ID of the device.
+	 * @return a read-only view of the routes of the device, empty if there are none.
+	 */
+	public Map<String, RouteInfo> getRoutes(String deviceId) {
+		DeviceRoutes deviceRoutes = devices.get(deviceId);
+		return deviceRoutes == null ? Collections.emptyMap() : Collections.unmodifiableMap(deviceRoutes.routes);
+	}
+
+	/**
+	 * Retrieves the number of cached routes.
+	 *
+	 * @return the number of cached routes.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Retrieves the number of routes evicted since the cache was created or cleared.
+	 *
+	 * @return the number of evicted routes.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Retrieves a counter that changes whenever a route name is added or removed, so that results derived
+	 * from the route names can be reused while it stays the same.
+	 *
+	 * @return the version of the route names.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Removes every route.
+	 */
+	public void clear() {
+		version++;
+		devices.clear();
+		size = 0;
+		evictionCount = 0;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteConfigurationEnum;
+
+/**
+ * Source or destination of a route, holding the raw text of the fields the adapter reads.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RouteEndpoint {
+	private static final int FIELD_COUNT = RouteConfigurationEnum.values().length;
+
+	/**
+	 * Raw values of the endpoint fields, indexed by {@link RouteConfigurationEnum} ordinal
+	 */
+	private final String[] values = new String[FIELD_COUNT];
+	private String port;
+
+	/**
+	 * Retrieves the raw value of a configuration field.
+	 *
+	 * @param item the configuration field.
+	 * @return the raw value, null if the endpoint does not have the field.
+	 */
+	public String getValue(RouteConfigurationEnum item) {
+		return values[item.ordinal()];
+	}
+
+	/**
+	 * Sets the raw value of a configuration field.
+	 *
+	 * @param item the configuration field.
+	 * @param value the raw value.
+	 */
+	public void setValue(RouteConfigurationEnum item, String value) {
+		values[item.ordinal()] = value;
+	}
+
+	/**
+	 * Adds every field of the endpoint to a route fingerprint.
+	 *
+	 * @param hash the fingerprint so far.
+	 * @return the fingerprint including this endpoint.
+	 */
+	long appendFingerprint(long hash) {
+		for (String value : values) {
+			hash = RouteFingerprint.append(hash, value);
+		}
+		return RouteFingerprint.append(hash, port);
+	}
+
+	/**
+	 * Retrieves {@link #port}
+	 *
+	 * @return value of {@link #port}
+	 */
+	public String getPort() {
+		return port;
+	}
+
+	/**
+	 * Sets {@link #port} value
+	 *
+	 * @param port new value of {@link #port}
+	 */
+	public void setPort(String port) {
+		this.port = port;
+	}
+}
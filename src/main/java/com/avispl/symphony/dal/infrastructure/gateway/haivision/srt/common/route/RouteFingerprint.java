@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+/**
+ * 64-bit FNV-1a hashing used to fingerprint routes.
+ * Every value is followed by a separator so that adjacent values cannot be shifted into each other.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+final class RouteFingerprint {
+	static final long INITIAL = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+	private static final char SEPARATOR = '\u0000';
+	private static final char NULL_MARKER = '\u0001';
+
+	private RouteFingerprint() {
+	}
+
+	/**
+	 * Adds a value to a fingerprint.
+	 *
+	 * @param hash the fingerprint so far.
+	 * @param value the value, may be null.
+	 * @return the fingerprint including the value.
+	 */
+	static long append(long hash, String value) {
+		if (value == null) {
+			return mix(mix(hash, NULL_MARKER), SEPARATOR);
+		}
+		for (int i = 0; i < value.length(); i++) {
+			hash = mix(hash, value.charAt(i));
+		}
+		return mix(hash, SEPARATOR);
+	}
+
+	/**
+	 * Adds a number to a fingerprint.
+	 *
+	 * @param hash the fingerprint so far.
+	 * @param value the number.
+	 * @return the fingerprint including the number.
+	 */
+	static long append(long hash, int value) {
+		hash = mix(hash, (char) (value >>> 16));
+		hash = mix(hash, (char) value);
+		return mix(hash, SEPARATOR);
+	}
+
+	private static long mix(long hash, char value) {
+		hash ^= (value & 0xff);
+		hash *= PRIME;
+		hash ^= (value >>> 8);
+		return hash * PRIME;
+	}
+}
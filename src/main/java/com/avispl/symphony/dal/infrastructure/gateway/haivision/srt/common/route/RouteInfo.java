@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.List;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+
+/**
+ * A route of the gateway with its source and destinations, built once per fetch and read by the populate stage.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RouteInfo {
+	private static final int FIELD_COUNT = RouteInfoEnum.values().length;
+
+	/**
+	 * Raw values of the scalar route fields, indexed by {@link RouteInfoEnum} ordinal
+	 */
+	private final String[] values = new String[FIELD_COUNT];
+	private RouteEndpoint source;
+	private List<RouteEndpoint> destinations;
+	private long fingerprint;
+	private boolean fingerprinted;
+
+	/**
+	 * Retrieves the raw value of a scalar route field, source and destinations are read through their own getters.
+	 *
+	 * @param item the route field.
+	 * @return the raw value, null if the route does not have the field.
+	 */
+	public String getValue(RouteInfoEnum item) {
+		return values[item.ordinal()];
+	}
+
+	/**
+	 * Sets the raw value of a scalar route field.
+	 *
+	 * @param item the route field.
+	 * @param value the raw value.
+	 */
+	public void setValue(RouteInfoEnum item, String value) {
+		values[item.ordinal()] = value;
+	}
+
+	/**
+	 * Retrieves a 64-bit fingerprint of every field that the route statistics are built from, except the elapsed time
+	 * which changes on every poll of a running route. Two routes with the same fingerprint produce the same properties,
+	 * apart from their uptime.
+	 *
+	 * @return the fingerprint of the route.
+	 */
+	public long getFingerprint() {
+		if (!fingerprinted) {
+			long hash = RouteFingerprint.INITIAL;
+			hash = RouteFingerprint.append(hash, getId());
+			hash = RouteFingerprint.append(hash, getName());
+			hash = RouteFingerprint.append(hash, getStatus());
+			hash = source == null ? RouteFingerprint.append(hash, null) : source.appendFingerprint(hash);
+			if (destinations == null) {
+				hash = RouteFingerprint.append(hash, null);
+			} else {
+				hash = RouteFingerprint.append(hash, destinations.size());
+				for (RouteEndpoint destination : destinations) {
+					hash = destination.appendFingerprint(hash);
+				}
+			}
+			fingerprint = hash;
+			fingerprinted = true;
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Retrieves the route ID
+	 *
+	 * @return the raw value of {@link RouteInfoEnum#ID}
+	 */
+	public String getId() {
+		return values[RouteInfoEnum.ID.ordinal()];
+	}
+
+	/**
+	 * Retrieves the route name
+	 *
+	 * @return the raw value of {@link RouteInfoEnum#NAME}
+	 */
+	public String getName() {
+		return values[RouteInfoEnum.NAME.ordinal()];
+	}
+
+	/**
+	 * Retrieves the elapsed time since the route was started
+	 *
+	 * @return the raw value of {@link RouteInfoEnum#UPTIME}
+	 */
+	public String getElapsedTime() {
+		return values[RouteInfoEnum.UPTIME.ordinal()];
+	}
+
+	/**
+	 * Retrieves the route status
+	 *
+	 * @return the raw value of {@link RouteInfoEnum#STATUS}
+	 */
+	public String getStatus() {
+		return values[RouteInfoEnum.STATUS.ordinal()];
+	}
+
+	/**
+	 * Retrieves {@link #source}
+	 *
+	 * @return value of {@link #source}
+	 */
+	public RouteEndpoint getSource() {
+		return source;
+	}
+
+	/**
+	 * Sets {@link #source} value
+	 *
+	 * @param source new value of {@link #source}
+	 */
+	public void setSource(RouteEndpoint source) {
+		this.source = source;
+	}
+
+	/**
+	 * Retrieves {@link #destinations}
+	 *
+	 * @return value of {@link #destinations}
+	 */
+	public List<RouteEndpoint> getDestinations() {
+		return destinations;
+	}
+
+	/**
+	 * Sets {@link #destinations} value
+	 *
+	 * @param destinations new value of {@link #destinations}
+	 */
+	public void setDestinations(List<RouteEndpoint> destinations) {
+		this.destinations = destinations;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single page of the routes response.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RoutePage {
+	/**
+	 * Total number of routes reported by the gateway, -1 when the response does not carry it
+	 */
+	private int count = -1;
+
+	/**
+	 * Routes of the page
+	 */
+	private final List<RouteInfo> routes = new ArrayList<>();
+
+	/**
+	 * Retrieves {@link #count}
+	 *
+	 * @return value of {@link #count}
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Sets {@link #count} value
+	 *
+	 * @param count new value of {@link #count}
+	 */
+	public void setCount(int count) {
+		this.count = count;
+	}
+
+	/**
+	 * Retrieves {@link #routes}
+	 *
+	 * @return value of {@link #routes}
+	 */
+	public List<RouteInfo> getRoutes() {
+		return routes;
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adaptive polling cadence of the routes.
+ * A route that is healthy and has not changed since it was last polled is polled less and less often,
+ * its interval doubling on every poll up to a maximum. A route that changed, restarted, is not healthy or whose
+ * last poll failed is polled again at the base interval, so incidents are never hidden by the back-off.
+ * <p>
+ * The schedule is not thread safe, it is only accessed by the thread refreshing the statistics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RoutePollingSchedule {
+	private static final String HEALTHY_STATUS = "ok";
+
+	/**
+	 * Polling state of a single route
+	 */
+	private static class RouteSchedule {
+		private long fingerprint;
+		private long uptime = -1;
+		private long interval;
+		private long nextPollTimestamp;
+	}
+
+	private final Map<String, RouteSchedule> schedules = new HashMap<>();
+
+	/**
+	 * Checks whether a route has to be polled in the current cycle, and schedules its next poll if so.
+	 *
+	 * @param group the statistics group of the route.
+	 * @param route the current route.
+	 * @param timestamp time of the current cycle.
+	 * @param baseInterval interval of a route that changed or is not healthy, the polling interval of the adapter.
+	 * @param maxInterval maximum interval of a stable route, no back-off is applied if it is not above the base interval.
+	 * @return true if the route has to be polled.
+	 */
+	public boolean isDue(String group, RouteInfo route, long timestamp, long baseInterval, long maxInterval) {
+		RouteSchedule schedule = schedules.get(group);
+		long uptime = parseUptime(route.getElapsedTime());
+		boolean changed = schedule == null || schedule.fingerprint != route.getFingerprint() || uptime < schedule.uptime;
+		if (schedule == null) {
+			schedule = new RouteSchedule();
+			schedules.put(group, schedule);
+		}
+		schedule.fingerprint = route.getFingerprint();
+		schedule.uptime = uptime;
+		if (changed || maxInterval <= baseInterval || !HEALTHY_STATUS.equalsIgnoreCase(route.getStatus())) {
+			schedule.interval = baseInterval;
+		} else if (timestamp < schedule.nextPollTimestamp) {
+			return false;
+		} else {
+			schedule.interval = Math.min(maxInterval, Math.max(baseInterval, schedule.interval * 2));
+		}
+		// cycles do not start exactly one polling interval apart, half an interval of tolerance keeps the cadence stable
+		schedule.nextPollTimestamp = timestamp + schedule.interval - baseInterval / 2;
+		return true;
+	}
+
+	/**
+	 * Brings a route back to the base interval, e.g. because its last poll failed.
+	 *
+	 * @param group the statistics group of the route.
+	 */
+	public void reset(String group) {
+		RouteSchedule schedule = schedules.get(group);
+		if (schedule != null) {
+			schedule.interval = 0;
+			schedule.nextPollTimestamp = 0;
+		}
+	}
+
+	/**
+	 * Retrieves the current polling interval of a route.
+	 *
+	 * @param group the statistics group of the route.
+	 * @return the interval in milliseconds, 0 if the route has never been polled.
+	 */
+	public long getInterval(String group) {
+		RouteSchedule schedule = schedules.get(group);
+		return schedule == null ? 0 : schedule.interval;
+	}
+
+	/**
+	 * Forgets the routes that are not polled anymore.
+	 *
+	 * @param groups the statistics groups of the routes still polled.
+	 */
+	public void retainAll(Collection<String> groups) {
+		schedules.keySet().retainAll(groups);
+	}
+
+	/**
+	 * Forgets every route.
+	 */
+	public void clear() {
+		schedules.clear();
+	}
+
+	/**
+	 * Parses an uptime in the format "hours:minutes:seconds" into seconds.
+	 *
+	 * @param elapsedTime the uptime reported by the gateway.
+	 * @return the uptime in seconds, -1 if it is missing or invalid.
+	 */
+	private static long parseUptime(String elapsedTime) {
+		if (elapsedTime == null) {
+			return -1;
+		}
+		long seconds = 0;
+		long part = 0;
+		for (int i = 0; i < elapsedTime.length(); i++) {
+			char c = elapsedTime.charAt(i);
+			if (c == ':') {
+				seconds = (seconds + part) * 60;
+				part = 0;
+			} else if (c >= '0' && c <= '9') {
+				part = part * 10 + (c - '0');
+			} else {
+				return -1;
+			}
+		}
+		return seconds + part;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Statistics properties built for a route, kept along with the fingerprint of the route they were built from
+ * so that they can be reused while the route does not change.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RouteProperties {
+	private final RoutePropertyNames propertyNames;
+	private long fingerprint;
+	private Map<String, String> properties = Collections.emptyMap();
+	private boolean built;
+
+	/**
+	 * Constructor for RouteProperties.
+	 *
+	 * @param group the statistics group of the route.
+	 */
+	public RouteProperties(String group) {
+		this.propertyNames = new RoutePropertyNames(group);
+	}
+
+	/**
+	 * Checks whether the properties have to be built again for a route.
+	 *
+	 * @param route the current route.
+	 * @return true if the properties were never built or were built from a different route.
+	 */
+	public boolean isOutdated(RouteInfo route) {
+		return !built || fingerprint != route.getFingerprint();
+	}
+
+	/**
+	 * Replaces the properties with the ones built from a route.
+	 *
+	 * @param route the route the properties were built from.
+	 * @param properties the properties of the route.
+	 */
+	public void update(RouteInfo route, Map<String, String> properties) {
+		this.fingerprint = route.getFingerprint();
+		this.properties = properties;
+		this.built = true;
+	}
+
+	/**
+	 * Retrieves {@link #propertyNames}
+	 *
+	 * @return value of {@link #propertyNames}
+	 */
+	public RoutePropertyNames getPropertyNames() {
+		return propertyNames;
+	}
+
+	/**
+	 * Retrieves {@link #properties}
+	 *
+	 * @return value of {@link #properties}
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+}
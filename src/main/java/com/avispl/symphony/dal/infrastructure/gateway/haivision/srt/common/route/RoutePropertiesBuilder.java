@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionConstant;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteConfigurationEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteStatisticsEnum;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Builds the statistics properties of a route, except its uptime which changes on every poll
+ * and is populated by the caller, and the properties of its SRT transport statistics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RoutePropertiesBuilder {
+	private static final RouteInfoEnum[] ROUTE_INFO_FIELDS = RouteInfoEnum.values();
+	private static final RouteConfigurationEnum[] ROUTE_CONFIGURATION_FIELDS = RouteConfigurationEnum.values();
+	private static final RouteStatisticsEnum[] ROUTE_STATISTICS_FIELDS = RouteStatisticsEnum.values();
+
+	/**
+	 * Builds the statistics properties of a route.
+	 *
+	 * @param propertyNames the property names of the route.
+	 * @param route the route.
+	 * @return the properties of the route.
+	 */
+	public Map<String, String> build(RoutePropertyNames propertyNames, RouteInfo route) {
+		Map<String, String> stats = new HashMap<>();
+		for (RouteInfoEnum item : ROUTE_INFO_FIELDS) {
+			switch (item) {
+				case SOURCE:
+					if (route.getSource() != null) {
+						populateEndpointInfo(stats, propertyNames.getSourceProperties(), route.getSource());
+					}
+					break;
+				case DESTINATION:
+					populateDestinationInfo(stats, route.getDestinations(), propertyNames);
+					break;
+				case UPTIME:
+					break;
+				default:
+					stats.put(propertyNames.getRouteProperty(item), getDefaultValueForNullData(route.getValue(item)));
+					break;
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * Builds the SRT transport statistics properties of a route.
+	 * Destinations are numbered from 1 when the gateway reports more than one.
+	 *
+	 * @param propertyNames the property names of the route.
+	 * @param routeStatistics the SRT statistics of the route.
+	 * @return the properties of the route statistics.
+	 */
+	public Map<String, String> buildStatistics(RoutePropertyNames propertyNames, RouteStatistics routeStatistics) {
+		Map<String, String> stats = new HashMap<>();
+		if (routeStatistics.getSource() != null) {
+			populateStatistics(stats, propertyNames.getSourceStatisticsProperties(), routeStatistics.getSource());
+		}
+		List<String[]> destinations = routeStatistics.getDestinations();
+		for (int i = 0; i < destinations.size(); i++) {
+			populateStatistics(stats, propertyNames.getDestinationStatisticsProperties(destinations.size() == 1 ? 0 : i + 1), destinations.get(i));
+		}
+		return stats;
+	}
+
+	/**
+	 * Populates the provided statistics map with the SRT statistics of a route source or destination.
+	 *
+	 * @param stats a map to be populated with the endpoint statistics.
+	 * @param propertyNames the property names of the endpoint, indexed by {@link RouteStatisticsEnum} ordinal.
+	 * @param values the statistics values, indexed by {@link RouteStatisticsEnum} ordinal.
+	 */
+	private void populateStatistics(Map<String, String> stats, String[] propertyNames, String[] values) {
+		for (RouteStatisticsEnum item : ROUTE_STATISTICS_FIELDS) {
+			stats.put(propertyNames[item.ordinal()], getDefaultValueForNullData(values[item.ordinal()]));
+		}
+	}
+
+	/**
+	 * Populates the provided statistics map with the information of every destination of a route.
+	 * Destinations are numbered from 1 when the route has more than one.
+	 *
+	 * @param stats a map to be populated with the destination information.
+	 * @param destinations the destinations of the route, may be null.
+	 * @param propertyNames the property names of the route.
+	 */
+	private void populateDestinationInfo(Map<String, String> stats, List<RouteEndpoint> destinations, RoutePropertyNames propertyNames) {
+		if (destinations == null) {
+			return;
+		}
+		int index = 1;
+		for (RouteEndpoint destination : destinations) {
+			int destinationIndex = destinations.size() == 1 ? 0 : index;
+			populateEndpointInfo(stats, propertyNames.getDestinationProperties(destinationIndex), destination);
+			index++;
+		}
+	}
+
+	/**
+	 * Populates the provided statistics map with the information of a route source or destination.
+	 *
+	 * @param stats a map to be populated with the endpoint information.
+	 * @param propertyNames the property names of the endpoint, indexed by {@link RouteConfigurationEnum} ordinal.
+	 * @param endpoint the endpoint.
+	 */
+	private void populateEndpointInfo(Map<String, String> stats, String[] propertyNames, RouteEndpoint endpoint) {
+		for (RouteConfigurationEnum item : ROUTE_CONFIGURATION_FIELDS) {
+			String rawValue = endpoint.getValue(item);
+			if (rawValue == null) {
+				continue;
+			}
+			String value = getDefaultValueForNullData(rawValue);
+			String propertyName = propertyNames[item.ordinal()];
+			switch (item) {
+				case ADDRESS:
+					// an endpoint without a port is reported by its address alone
+					String port = getDefaultValueForNullData(endpoint.getPort());
+					stats.put(propertyName, HaivisionConstant.NONE.equals(port) ? value : value + HaivisionConstant.COLON + port);
+					break;
+				case PROTOCOL:
+					value = value.equalsIgnoreCase("http") ? "HLS" : value.toUpperCase();
+					stats.put(propertyName, value);
+					break;
+				case TYPE:
+					value = value.equalsIgnoreCase("hls") ? "Server" : uppercaseFirstCharacter(value);
+					stats.put(propertyName, value);
+					break;
+				case STATUS:
+					stats.put(propertyName, uppercaseFirstCharacter(value));
+					break;
+				default:
+					stats.put(propertyName, value);
+					break;
+			}
+		}
+	}
+
+	/**
+	 * check value is null or empty
+	 *
+	 * @param value input value
+	 * @return value after checking
+	 */
+	private String getDefaultValueForNullData(String value) {
+		return StringUtils.isNotNullOrEmpty(value) && !"null".equalsIgnoreCase(value) ? value : HaivisionConstant.NONE;
+	}
+
+	/**
+	 * capitalize the first character of the string
+	 *
+	 * @param input input string
+	 * @return string after fix
+	 */
+	private String uppercaseFirstCharacter(String input) {
+		char firstChar = input.charAt(0);
+		return Character.toUpperCase(firstChar) + input.substring(1);
+	}
+}
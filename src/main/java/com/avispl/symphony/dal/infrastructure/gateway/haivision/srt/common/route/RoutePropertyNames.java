@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionConstant;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteConfigurationEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteStatisticsEnum;
+
+/**
+ * Statistics property names of a route, built and interned once per route group and reused on every poll.
+ * Names are indexed by {@link RouteInfoEnum}, {@link RouteConfigurationEnum} and {@link RouteStatisticsEnum} ordinal.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RoutePropertyNames {
+	private static final RouteInfoEnum[] ROUTE_FIELDS = RouteInfoEnum.values();
+	private static final RouteConfigurationEnum[] ENDPOINT_FIELDS = RouteConfigurationEnum.values();
+	private static final RouteStatisticsEnum[] STATISTICS_FIELDS = RouteStatisticsEnum.values();
+	private static final String STATISTICS_STALE = "RouteStatisticsStale";
+
+	private final String group;
+	private final String prefix;
+	private final String[] routeProperties;
+	private final String[] sourceProperties;
+
+	/**
+	 * Destination property names, the first entry is used when the route has a single destination
+	 * and the following ones are numbered from 1
+	 */
+	private final List<String[]> destinationProperties = new ArrayList<>();
+
+	private String[] sourceStatisticsProperties;
+	private final List<String[]> destinationStatisticsProperties = new ArrayList<>();
+	private String statisticsStaleProperty;
+
+	/**
+	 * Constructor for RoutePropertyNames.
+	 *
+	 * @param group the statistics group of the route, empty for properties without a group, e.g. of an aggregated device.
+	 */
+	public RoutePropertyNames(String group) {
+		this.group = group;
+		this.prefix = group.isEmpty() ? HaivisionConstant.EMPTY : group + HaivisionConstant.HASH;
+		routeProperties = new String[ROUTE_FIELDS.length];
+		for (RouteInfoEnum item : ROUTE_FIELDS) {
+			routeProperties[item.ordinal()] = (prefix + item.getName()).intern();
+		}
+		sourceProperties = buildEndpointProperties(prefix + HaivisionConstant.SOURCE);
+		destinationProperties.add(buildEndpointProperties(prefix + HaivisionConstant.DESTINATION));
+	}
+
+	/**
+	 * Builds the property names of a source or destination.
+	 *
+	 * @param prefix the property prefix of the endpoint.
+	 * @return the names, indexed by {@link RouteConfigurationEnum} ordinal.
+	 */
+	private static String[] buildEndpointProperties(String prefix) {
+		String[] names = new String[ENDPOINT_FIELDS.length];
+		for (RouteConfigurationEnum item : ENDPOINT_FIELDS) {
+			names[item.ordinal()] = (prefix + item.getName()).intern();
+		}
+		return names;
+	}
+
+	/**
+	 * Builds the SRT statistics property names of a source or destination.
+	 *
+	 * @param prefix the property prefix of the endpoint.
+	 * @return the names, indexed by {@link RouteStatisticsEnum} ordinal.
+	 */
+	private static String[] buildStatisticsProperties(String prefix) {
+		String[] names = new String[STATISTICS_FIELDS.length];
+		for (RouteStatisticsEnum item : STATISTICS_FIELDS) {
+			names[item.ordinal()] = (prefix + item.getName()).intern();
+		}
+		return names;
+	}
+
+	/**
+	 * Retrieves {@link #group}
+	 *
+	 * @return value of {@link #group}
+	 */
+	public String getGroup() {
+		return group;
+	}
+
+	/**
+	 * Retrieves the name of a route property.
+	 *
+	 * @param item the route field.
+	 * @return the property name.
+	 */
+	public String getRouteProperty(RouteInfoEnum item) {
+		return routeProperties[item.ordinal()];
+	}
+
+	/**
+	 * Retrieves the property names of the route source.
+	 *
+	 * @return the names, indexed by {@link RouteConfigurationEnum} ordinal.
+	 */
+	public String[] getSourceProperties() {
+		return sourceProperties;
+	}
+
+	/**
+	 * Retrieves the property names of a destination.
+	 *
+	 * @param index 0 when the route has a single destination, otherwise the 1-based destination number.
+	 * @return the names, indexed by {@link RouteConfigurationEnum} ordinal.
+	 */
+	public String[] getDestinationProperties(int index) {
+		while (destinationProperties.size() <= index) {
+			destinationProperties.add(buildEndpointProperties(prefix + HaivisionConstant.DESTINATION + destinationProperties.size()));
+		}
+		return destinationProperties.get(index);
+	}
+
+	/**
+	 * Retrieves the SRT statistics property names of the route source.
+	 * Statistics names are only built for routes whose statistics are retrieved.
+	 *
+	 * @return the names, indexed by {@link RouteStatisticsEnum} ordinal.
+	 */
+	public String[] getSourceStatisticsProperties() {
+		if (sourceStatisticsProperties == null) {
+			sourceStatisticsProperties = buildStatisticsProperties(prefix + HaivisionConstant.SOURCE);
+		}
+		return sourceStatisticsProperties;
+	}
+
+	/**
+	 * Retrieves the SRT statistics property names of a destination.
+	 *
+	 * @param index 0 when the route has a single destination, otherwise the 1-based destination number.
+	 * @return the names, indexed by {@link RouteStatisticsEnum} ordinal.
+	 */
+	public String[] getDestinationStatisticsProperties(int index) {
+		while (destinationStatisticsProperties.size() <= index) {
+			String suffix = destinationStatisticsProperties.isEmpty() ? HaivisionConstant.EMPTY : String.valueOf(destinationStatisticsProperties.size());
+			destinationStatisticsProperties.add(buildStatisticsProperties(prefix + HaivisionConstant.DESTINATION + suffix));
+		}
+		return destinationStatisticsProperties.get(index);
+	}
+
+	/**
+	 * Retrieves the name of the property telling whether the SRT statistics of the route are stale.
+	 *
+	 * @return the property name.
+	 */
+	public String getStatisticsStaleProperty() {
+		if (statisticsStaleProperty == null) {
+			statisticsStaleProperty = (prefix + STATISTICS_STALE).intern();
+		}
+		return statisticsStaleProperty;
+	}
+}
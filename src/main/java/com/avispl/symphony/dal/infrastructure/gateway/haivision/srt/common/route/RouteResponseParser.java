@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionConstant;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteConfigurationEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+
+/**
+ * Streaming parser for the routes response of the gateway.
+ * Only the fields named in {@link RouteInfoEnum} and {@link RouteConfigurationEnum} are read into the {@link RouteInfo} model,
+ * everything else is skipped without being materialized, so the memory used while parsing does not depend on the size of the payload.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RouteResponseParser {
+	private static final Map<String, RouteConfigurationEnum> ENDPOINT_FIELDS = new HashMap<>();
+	private static final Map<String, RouteInfoEnum> ROUTE_FIELDS = new HashMap<>();
+
+	static {
+		for (RouteConfigurationEnum item : RouteConfigurationEnum.values()) {
+			ENDPOINT_FIELDS.put(item.getField(), item);
+		}
+		for (RouteInfoEnum item : RouteInfoEnum.values()) {
+			ROUTE_FIELDS.put(item.getField(), item);
+		}
+	}
+
+	private final JsonFactory jsonFactory;
+
+	/**
+	 * Constructor for RouteResponseParser.
+	 *
+	 * @param jsonFactory factory used to create the streaming parsers.
+	 */
+	public RouteResponseParser(JsonFactory jsonFactory) {
+		this.jsonFactory = jsonFactory;
+	}
+
+	/**
+	 * Parses a page of the routes response.
+	 *
+	 * @param inputStream the response body.
+	 * @return the parsed page.
+	 * @throws IOException if the body cannot be read or is not valid JSON.
+	 */
+	public RoutePage parse(InputStream inputStream) throws IOException {
+		RoutePage page = new RoutePage();
+		try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return page;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (HaivisionConstant.DATA.equals(field) && token == JsonToken.START_ARRAY) {
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+						if (parser.currentToken() == JsonToken.START_OBJECT) {
+							page.getRoutes().add(parseRoute(parser));
+						} else {
+							parser.skipChildren();
+						}
+					}
+				} else if (HaivisionConstant.COUNT.equals(field) && token.isNumeric()) {
+					page.setCount(parser.getIntValue());
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return page;
+	}
+
+	/**
+	 * Parses a single route object, the parser must be positioned on its START_OBJECT token.
+	 *
+	 * @param parser the streaming parser.
+	 * @return the route.
+	 * @throws IOException if the body cannot be read.
+	 */
+	private RouteInfo parseRoute(JsonParser parser) throws IOException {
+		RouteInfo route = new RouteInfo();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			RouteInfoEnum item = ROUTE_FIELDS.get(parser.getCurrentName());
+			JsonToken token = parser.nextToken();
+			if (item == null) {
+				parser.skipChildren();
+				continue;
+			}
+			switch (item) {
+				case SOURCE:
+					if (token == JsonToken.START_OBJECT) {
+						route.setSource(parseEndpoint(parser));
+					} else {
+						parser.skipChildren();
+					}
+					break;
+				case DESTINATION:
+					if (token == JsonToken.START_ARRAY) {
+						route.setDestinations(parseEndpoints(parser));
+					} else {
+						parser.skipChildren();
+					}
+					break;
+				default:
+					route.setValue(item, readText(parser));
+					break;
+			}
+		}
+		return route;
+	}
+
+	/**
+	 * Parses an array of endpoints, the parser must be positioned on its START_ARRAY token.
+	 *
+	 * @param parser the streaming parser.
+	 * @return the endpoints.
+	 * @throws IOException if the body cannot be read.
+	 */
+	private List<RouteEndpoint> parseEndpoints(JsonParser parser) throws IOException {
+		List<RouteEndpoint> endpoints = new ArrayList<>();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (parser.currentToken() == JsonToken.START_OBJECT) {
+				endpoints.add(parseEndpoint(parser));
+			} else {
+				parser.skipChildren();
+			}
+		}
+		return endpoints;
+	}
+
+	/**
+	 * Parses a source or destination object, the parser must be positioned on its START_OBJECT token.
+	 *
+	 * @param parser the streaming parser.
+	 * @return the endpoint.
+	 * @throws IOException if the body cannot be read.
+	 */
+	private RouteEndpoint parseEndpoint(JsonParser parser) throws IOException {
+		RouteEndpoint endpoint = new RouteEndpoint();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			parser.nextToken();
+			RouteConfigurationEnum item = ENDPOINT_FIELDS.get(field);
+			if (item != null) {
+				endpoint.setValue(item, readText(parser));
+			} else if (HaivisionConstant.PORT.equals(field)) {
+				endpoint.setPort(readText(parser));
+			} else {
+				parser.skipChildren();
+			}
+		}
+		return endpoint;
+	}
+
+	/**
+	 * Reads the current value as text, the same way {@code JsonNode.asText()} renders it.
+	 * Objects and arrays are skipped and read as an empty string.
+	 *
+	 * @param parser the streaming parser.
+	 * @return the text value.
+	 * @throws IOException if the body cannot be read.
+	 */
+	private String readText(JsonParser parser) throws IOException {
+		if (parser.currentToken().isStructStart()) {
+			parser.skipChildren();
+			return HaivisionConstant.EMPTY;
+		}
+		return parser.getText();
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteStatisticsEnum;
+
+/**
+ * SRT transport statistics of a route, as returned by the statistics endpoint of the gateway.
+ * Values of the source and of every destination are indexed by {@link RouteStatisticsEnum} ordinal.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class RouteStatistics {
+	private String[] source;
+	private final List<String[]> destinations = new ArrayList<>();
+
+	/**
+	 * Retrieves {@link #source}
+	 *
+	 * @return value of {@link #source}, null if the gateway did not report the source
+	 */
+	public String[] getSource() {
+		return source;
+	}
+
+	/**
+	 * Sets {@link #source} value
+	 *
+	 * @param source new value of {@link #source}
+	 */
+	public void setSource(String[] source) {
+		this.source = source;
+	}
+
+	/**
+	 * Retrieves {@link #destinations}
+	 *
+	 * @return value of {@link #destinations}
+	 */
+	public List<String[]> getDestinations() {
+		return destinations;
+	}
+}
@@ -5,30 +5,96 @@
 package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt;
 
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import javax.security.auth.login.FailedLoginException;
 
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
-import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.HaivisionConstant;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.PingMode;
 
+/**
+ * Tests of the adapter against {@link HaivisionMockServer}.
+ * Every device reports 13 properties and the adapter adds RouteCacheSize, RouteCacheEvictions, DataAge(s) and ConnectionState,
+ * a route with a single destination adds 14 properties.
+ */
+@Tag("Mock")
 public class HaivisionGatewayCommunicatorTest {
-	private ExtendedStatistics extendedStatistics;
+	private static final int DEVICE_PROPERTIES = 17;
+	private static final int ROUTE_PROPERTIES = 14;
+	private static final long POLLING_INTERVAL = 1000;
+	private static final long WAIT_TIMEOUT = 30000;
+
+	/**
+	 * Clock that only moves when the test advances it, so each refresh cycle runs when the test asks for it
+	 */
+	private static class ManualClock extends Clock {
+		private final AtomicLong millis = new AtomicLong(System.currentTimeMillis());
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis.get());
+		}
+
+		@Override
+		public long millis() {
+			return millis.get();
+		}
+
+		private void advance(long duration) {
+			millis.addAndGet(duration);
+		}
+	}
+
+	private final ManualClock clock = new ManualClock();
+
+	private HaivisionMockServer mockServer;
 	private HaivisionGatewayCommunicator haivisionGatewayCommunicator;
 	private ExtendedStatistics extendedStatistic;
 
 	@BeforeEach
 	void setUp() throws Exception {
+		mockServer = new HaivisionMockServer();
+		mockServer.start();
 		haivisionGatewayCommunicator = new HaivisionGatewayCommunicator();
 		haivisionGatewayCommunicator.setTrustAllCertificates(true);
-		haivisionGatewayCommunicator.setHost("");
-		haivisionGatewayCommunicator.setLogin("");
-		haivisionGatewayCommunicator.setPassword("");
-		haivisionGatewayCommunicator.setPort(443);
+		haivisionGatewayCommunicator.setProtocol("https");
+		haivisionGatewayCommunicator.setHost(mockServer.getHost());
+		haivisionGatewayCommunicator.setLogin(HaivisionMockServer.LOGIN);
+		haivisionGatewayCommunicator.setPassword(HaivisionMockServer.PASSWORD);
+		haivisionGatewayCommunicator.setPort(mockServer.getPort());
+		haivisionGatewayCommunicator.setPollingInterval(POLLING_INTERVAL);
 		haivisionGatewayCommunicator.init();
 		haivisionGatewayCommunicator.connect();
 	}
@@ -37,6 +103,82 @@ public class HaivisionGatewayCommunicatorTest {
 	void destroy() throws Exception {
 		haivisionGatewayCommunicator.disconnect();
 		haivisionGatewayCommunicator.destroy();
+		mockServer.close();
+	}
+
+	/**
+	 * Statistics are refreshed in the background, wait until the first snapshot has been published
+	 *
+	 * @return the first non empty statistics
+	 */
+	private ExtendedStatistics retrieveStatistics() throws Exception {
+		ExtendedStatistics statistics = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		for (int i = 0; i < 60 && statistics.getStatistics().isEmpty(); i++) {
+			Thread.sleep(500);
+			statistics = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		}
+		return statistics;
+	}
+
+	/**
+	 * Waits until the number of requests received by the mock server reaches the expected count.
+	 * Statistics stay requested for a while after the last call, so the adapter keeps polling meanwhile.
+	 *
+	 * @return true if the count was reached in time
+	 */
+	private boolean waitForRequests(String method, String path, int count) throws Exception {
+		return mockServer.awaitRequests(method, path, count, WAIT_TIMEOUT);
+	}
+
+	/**
+	 * Drives the adapter with {@link #clock}: the first cycle runs right away, the next ones only when the clock is advanced.
+	 * Must be called before the statistics are first retrieved.
+	 */
+	private void useManualClock() {
+		haivisionGatewayCommunicator.setClock(clock);
+	}
+
+	/**
+	 * Polls the statistics until they satisfy a condition. Refresh errors are ignored while waiting.
+	 *
+	 * @return the statistics satisfying the condition, or the last statistics read if it was not reached in time
+	 */
+	private Map<String, String> awaitStatistics(Predicate<Map<String, String>> condition) throws Exception {
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		Map<String, String> statistics = Collections.emptyMap();
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				statistics = ((ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0)).getStatistics();
+				if (condition.test(statistics)) {
+					break;
+				}
+			} catch (Exception e) {
+				statistics = Collections.emptyMap();
+			}
+			Thread.sleep(20);
+		}
+		return statistics;
+	}
+
+	/**
+	 * Advances {@link #clock} by one polling interval and waits until the refresh cycle it triggers has published its snapshot,
+	 * which is the only one whose data age is 0 at the new time.
+	 */
+	private void runCycle() throws Exception {
+		clock.advance(POLLING_INTERVAL);
+		Map<String, String> statistics = awaitStatistics(stats -> "0".equals(stats.get(HaivisionConstant.DATA_AGE)));
+		Assert.assertEquals("Refresh cycle did not complete", "0", statistics.get(HaivisionConstant.DATA_AGE));
+	}
+
+	/**
+	 * Finds the warm start snapshot written to a directory.
+	 *
+	 * @return the snapshot file, or null if none was written yet
+	 */
+	private Path findSnapshotFile(Path directory) throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".snapshot")).findFirst().orElse(null);
+		}
 	}
 
 	/**
@@ -46,19 +188,18 @@ public class HaivisionGatewayCommunicatorTest {
 	@Test
 	void testGetDeviceInfo() throws Exception {
 		haivisionGatewayCommunicator.setFilterAllRouteName("");
-		haivisionGatewayCommunicator.setFilterAllRouteName("");
-		haivisionGatewayCommunicator.setFilterByRouteName("000-Avid-Loopback");
-		extendedStatistic = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		haivisionGatewayCommunicator.setFilterByRouteName("");
+		extendedStatistic = retrieveStatistics();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(12, statistics.size());
-		Assert.assertEquals("Cp0TY9ajND9wVhDmzJT0ww", statistics.get("DeviceID"));
-		Assert.assertEquals("Haivision Media Gateway", statistics.get("DeviceName"));
+		Assert.assertEquals(DEVICE_PROPERTIES, statistics.size());
+		Assert.assertEquals(HaivisionMockServer.getDeviceId(1), statistics.get("DeviceID"));
+		Assert.assertEquals("Haivision Media Gateway 1", statistics.get("DeviceName"));
 		Assert.assertEquals("5.5.230907.1727", statistics.get("FirmwareVersion"));
 		Assert.assertEquals("127.0.0.1", statistics.get("IPAddress"));
-		Assert.assertEquals("Aug 14, 2024, 9:00 AM", statistics.get("LastConnected"));
+		Assert.assertEquals("Aug 14, 2024, 9:00 AM", statistics.get("LastConnectedAt(GMT)"));
 		Assert.assertEquals("<1m", statistics.get("LastConnection"));
-		Assert.assertEquals("False", statistics.get("PendingSync"));
-		Assert.assertEquals("VMware-42358b0285d8a8d8-8351cd837767f417", statistics.get("SerialNumber"));
+		Assert.assertEquals("false", statistics.get("PendingSync"));
+		Assert.assertEquals("VMware-42358b0285d8a8d88351cd837767f411", statistics.get("SerialNumber"));
 		Assert.assertEquals("Online", statistics.get("Status"));
 		Assert.assertEquals("Ok", statistics.get("StatusCode"));
 		Assert.assertEquals("Connection has been established in the last 1 minutes.", statistics.get("StatusDetails"));
@@ -66,19 +207,19 @@ public class HaivisionGatewayCommunicatorTest {
 	}
 
 	@Test
-	void testDeviceInfoWithFilteringAllRouteName() throws Exception{
+	void testDeviceInfoWithFilteringAllRouteName() throws Exception {
 		haivisionGatewayCommunicator.setFilterAllRouteName("true");
-		extendedStatistic = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		extendedStatistic = retrieveStatistics();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(661, statistics.size());
+		Assert.assertEquals(DEVICE_PROPERTIES + 10 * ROUTE_PROPERTIES, statistics.size());
 	}
 
 	@Test
-	void testDeviceInfoWithoutFilteringAllRouteName() throws Exception{
+	void testDeviceInfoWithoutFilteringAllRouteName() throws Exception {
 		haivisionGatewayCommunicator.setFilterAllRouteName("false");
-		extendedStatistic = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		extendedStatistic = retrieveStatistics();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(13, statistics.size());
+		Assert.assertEquals(DEVICE_PROPERTIES, statistics.size());
 	}
 
 	/**
@@ -88,12 +229,15 @@ public class HaivisionGatewayCommunicatorTest {
 	 */
 	@Test
 	void testDeviceInfoWithFiltering() throws Exception {
-		haivisionGatewayCommunicator.setFilterByRouteName("0-DK-PlaySTB");
-		extendedStatistic = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		haivisionGatewayCommunicator.setFilterByRouteName("Route 2");
+		extendedStatistic = retrieveStatistics();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals("SRT", statistics.get("0-DK-PlaySTB#SourceProtocol"));
-		Assert.assertEquals("SRT", statistics.get("0-DK-PlaySTB#DestinationProtocol"));
-
+		Assert.assertEquals(DEVICE_PROPERTIES + ROUTE_PROPERTIES, statistics.size());
+		Assert.assertEquals("SRT", statistics.get("Route 2#SourceProtocol"));
+		Assert.assertEquals("Caller", statistics.get("Route 2#SourceType"));
+		Assert.assertEquals("10.0.0.2:9002", statistics.get("Route 2#SourceAddress"));
+		Assert.assertEquals("UDP", statistics.get("Route 2#DestinationProtocol"));
+		Assert.assertEquals("0 hour(s) 0 minute(s) 2 second(s)", statistics.get("Route 2#RouteUptime"));
 	}
 
 	/**
@@ -103,9 +247,569 @@ public class HaivisionGatewayCommunicatorTest {
 	 */
 	@Test
 	void testAggregatorWithMultipleFilteringValue() throws Exception {
-		haivisionGatewayCommunicator.setFilterByRouteName("0-DK-PlaySTB, 4Kp60 Live (HMP) b272e17b-26f6-47e4-b25b-f8297121c8e0, RY - Play, STD, 000-Avid-Loopback, BT");;
-		extendedStatistic = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		mockServer.setDestinationCount(2);
+		haivisionGatewayCommunicator.setFilterByRouteName("Route 2, Route 3, , Unknown");
+		extendedStatistic = retrieveStatistics();
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assert.assertEquals("Route 2", statistics.get("Route 2#RouteName"));
+		Assert.assertEquals("Route 3", statistics.get("Route 3#RouteName"));
+		Assert.assertEquals("Destination 3-2", statistics.get("Route 3#Destination2Name"));
+		Assert.assertNull(statistics.get("Route 4#RouteName"));
+	}
+
+	/**
+	 * Routes of a gateway that reports its route count are requested one page at a time, all pages are merged
+	 */
+	@Test
+	void testRoutePaging() throws Exception {
+		mockServer.setRouteCount(1200);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		extendedStatistic = retrieveStatistics();
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assert.assertEquals("1200", statistics.get("RouteCacheSize"));
+		Assert.assertEquals(DEVICE_PROPERTIES + 1200 * ROUTE_PROPERTIES, statistics.size());
+		Assert.assertEquals(3, mockServer.getRequestCount("GET", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/routes"));
+	}
+
+	/**
+	 * Routes of a gateway that does not report its route count are requested until a partial page is returned
+	 */
+	@Test
+	void testRoutePagingWithoutCount() throws Exception {
+		mockServer.setRouteCount(1000);
+		mockServer.setReportCount(false);
+		extendedStatistic = retrieveStatistics();
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assert.assertEquals("1000", statistics.get("RouteCacheSize"));
+		Assert.assertEquals(3, mockServer.getRequestCount("GET", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/routes"));
+	}
+
+	/**
+	 * Properties and routes of several gateways are namespaced by the gateway name
+	 */
+	@Test
+	void testMultipleDevices() throws Exception {
+		mockServer.setDeviceCount(2);
+		mockServer.setRouteCount(3);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		extendedStatistic = retrieveStatistics();
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assert.assertEquals(HaivisionMockServer.getDeviceId(2), statistics.get("Haivision Media Gateway 2#DeviceID"));
+		Assert.assertEquals("Route 3", statistics.get("Haivision Media Gateway 1:Route 3#RouteName"));
+		Assert.assertEquals("Route 3", statistics.get("Haivision Media Gateway 2:Route 3#RouteName"));
+		Assert.assertEquals("6", statistics.get("RouteCacheSize"));
+	}
+
+	/**
+	 * A session expired by the gateway is renewed once and the statistics keep being refreshed
+	 */
+	@Test
+	void testSessionExpiry() throws Exception {
+		useManualClock();
+		retrieveStatistics();
+		Assert.assertEquals(1, mockServer.getRequestCount("POST", "api/session"));
+		mockServer.expireSessions();
+		runCycle();
+		Assert.assertEquals(2, mockServer.getRequestCount("POST", "api/session"));
+		// the renewed session is kept by the next cycles
+		runCycle();
+		Assert.assertEquals(2, mockServer.getRequestCount("POST", "api/session"));
+		Assert.assertFalse(retrieveStatistics().getStatistics().isEmpty());
+	}
+
+	/**
+	 * A failed refresh is reported once, the next refresh recovers
+	 */
+	@Test
+	void testInjectedError() throws Exception {
+		useManualClock();
+		retrieveStatistics();
+		String routesPath = "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/routes";
+		mockServer.injectError("api/gateway", 500, 1);
+		clock.advance(POLLING_INTERVAL);
+		Assert.assertTrue(waitForRequests("GET", routesPath, 2));
+		Exception error = null;
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+		while (error == null && System.currentTimeMillis() < deadline) {
+			try {
+				haivisionGatewayCommunicator.getMultipleStatistics();
+				Thread.sleep(20);
+			} catch (Exception e) {
+				error = e;
+			}
+		}
+		Assert.assertNotNull(error);
+		runCycle();
+		Assert.assertEquals(3, mockServer.getRequestCount("GET", routesPath));
+		Assert.assertFalse(retrieveStatistics().getStatistics().isEmpty());
+	}
+
+	/**
+	 * SRT statistics of the filtered routes are retrieved and reported along with the route information
+	 */
+	@Test
+	void testRouteStatistics() throws Exception {
+		mockServer.setDestinationCount(2);
+		haivisionGatewayCommunicator.setRouteStatisticsEnabled(true);
+		haivisionGatewayCommunicator.setFilterByRouteName("Route 2");
+		extendedStatistic = retrieveStatistics();
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assert.assertEquals("2000", statistics.get("Route 2#SourceBitrate(kbps)"));
+		Assert.assertEquals("12", statistics.get("Route 2#Destination2RTT(ms)"));
+		Assert.assertEquals("2", statistics.get("Route 2#Destination1PacketLoss"));
+		Assert.assertEquals("false", statistics.get("Route 2#RouteStatisticsStale"));
+		Assert.assertEquals(1, mockServer.getRequestCount("GET", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/statistics"));
+	}
+
+	/**
+	 * Routes whose SRT statistics do not arrive within the time budget are reported as stale, without delaying the refresh
+	 */
+	@Test
+	void testRouteStatisticsTimeBudget() throws Exception {
+		mockServer.setStatisticsLatency(3000);
+		haivisionGatewayCommunicator.setRouteStatisticsEnabled(true);
+		haivisionGatewayCommunicator.setRouteStatisticsTimeBudget(200);
+		haivisionGatewayCommunicator.setFilterByRouteName("Route 2");
+		extendedStatistic = retrieveStatistics();
+		Map<String, String> statistics = extendedStatistic.getStatistics();
+		Assert.assertEquals("true", statistics.get("Route 2#RouteStatisticsStale"));
+		Assert.assertNull(statistics.get("Route 2#SourceBitrate(kbps)"));
+		Assert.assertEquals("Route 2", statistics.get("Route 2#RouteName"));
+	}
+
+	/**
+	 * SRT statistics of a stable, healthy route are requested less often than the route information
+	 */
+	@Test
+	void testAdaptiveRoutePolling() throws Exception {
+		useManualClock();
+		haivisionGatewayCommunicator.setRouteStatisticsEnabled(true);
+		haivisionGatewayCommunicator.setMaxRoutePollingInterval(8000);
+		haivisionGatewayCommunicator.setFilterByRouteName("Route 2");
+		retrieveStatistics();
+		for (int i = 0; i < 7; i++) {
+			runCycle();
+		}
+		// the interval doubles from one polling interval up to 8 s: requested on the cycles at 0, 1, 3 and 7 s
+		Assert.assertEquals(8, mockServer.getRequestCount("GET", "api/devices"));
+		Assert.assertEquals(4, mockServer.getRequestCount("GET", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/statistics"));
+	}
+
+	/**
+	 * SRT statistics of a route in error are requested on every cycle
+	 */
+	@Test
+	void testAdaptiveRoutePollingWithRouteInError() throws Exception {
+		useManualClock();
+		mockServer.setRouteStatus("error");
+		haivisionGatewayCommunicator.setRouteStatisticsEnabled(true);
+		haivisionGatewayCommunicator.setMaxRoutePollingInterval(8000);
+		haivisionGatewayCommunicator.setFilterByRouteName("Route 2");
+		retrieveStatistics();
+		for (int i = 0; i < 4; i++) {
+			runCycle();
+		}
+		Assert.assertEquals(5, mockServer.getRequestCount("GET", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/statistics"));
+	}
+
+	/**
+	 * Adapter metrics are published in their own group when enabled
+	 */
+	@Test
+	void testAdapterMetrics() throws Exception {
+		haivisionGatewayCommunicator.setAdapterMetricsEnabled(true);
+		haivisionGatewayCommunicator.setFilterByRouteName("Route 2");
+		extendedStatistic = retrieveStatistics();
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		System.out.println(statistics);
+		Assert.assertEquals("10", statistics.get("AdapterMetrics#RoutesParsed"));
+		Assert.assertEquals("1", statistics.get("AdapterMetrics#RoutesEmitted"));
+		Assert.assertEquals("3", statistics.get("AdapterMetrics#HttpRequests"));
+		Assert.assertEquals("0", statistics.get("AdapterMetrics#HttpErrors"));
+		Assert.assertTrue(Long.parseLong(statistics.get("AdapterMetrics#HttpResponseBytes")) > 0);
+		Assert.assertNotNull(statistics.get("AdapterMetrics#RouteFetchP95Duration(ms)"));
+		Assert.assertNotNull(statistics.get("AdapterMetrics#RefreshLastDuration(ms)"));
+	}
+
+	/**
+	 * The device list is requested on the device status cadence, the routes on every cycle
+	 */
+	@Test
+	void testDeviceStatusPollingInterval() throws Exception {
+		useManualClock();
+		haivisionGatewayCommunicator.setDeviceStatusPollingInterval(3000);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		Assert.assertEquals("Online", retrieveStatistics().getStatistics().get("Status"));
+		for (int i = 0; i < 6; i++) {
+			runCycle();
+		}
+		// the device list is requested on the cycles at 0, 3 and 6 s
+		Assert.assertEquals(7, mockServer.getRequestCount("GET", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/routes"));
+		Assert.assertEquals(3, mockServer.getRequestCount("GET", "api/devices"));
+		Assert.assertEquals(HaivisionMockServer.getDeviceId(1), retrieveStatistics().getStatistics().get("DeviceID"));
+	}
+
+	/**
+	 * Connections are kept alive between refresh cycles and responses are received gzip compressed
+	 */
+	@Test
+	void testKeepAliveAndCompression() throws Exception {
+		useManualClock();
+		mockServer.setRouteCount(1200);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		retrieveStatistics();
+		for (int i = 0; i < 3; i++) {
+			runCycle();
+		}
+		Assert.assertEquals("1200", retrieveStatistics().getStatistics().get("RouteCacheSize"));
+		// 4 cycles send 17 requests, 3 route pages each, but never more at once than the route page threads and the data loader
+		Assert.assertEquals(12, mockServer.getRequestCount("GET", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/routes"));
+		Assert.assertTrue("Unexpected connections: " + mockServer.getConnectionCount(),
+				mockServer.getConnectionCount() <= HaivisionConstant.DEFAULT_MAX_CONCURRENT_REQUESTS + 1);
+		Assert.assertTrue(mockServer.getCompressedResponseCount() > 0);
+	}
+
+	/**
+	 * TCP ping connects to the API port, and fails once nothing listens on it anymore
+	 */
+	@Test
+	void testTcpPing() throws Exception {
+		haivisionGatewayCommunicator.setPingMode(PingMode.TCP);
+		int latency = haivisionGatewayCommunicator.ping();
+		Assert.assertTrue("Unexpected latency: " + latency, latency >= 1 && latency < haivisionGatewayCommunicator.getPingTimeout());
+		mockServer.close();
+		Assert.assertThrows(RuntimeException.class, () -> haivisionGatewayCommunicator.ping());
+	}
+
+	/**
+	 * HTTP ping checks the session over a connection kept alive by the polling
+	 */
+	@Test
+	void testHttpPing() throws Exception {
+		useManualClock();
+		haivisionGatewayCommunicator.setPingMode(PingMode.HTTP);
+		retrieveStatistics();
+		int connections = mockServer.getConnectionCount();
+		for (int i = 0; i < 3; i++) {
+			int latency = haivisionGatewayCommunicator.ping();
+			Assert.assertTrue("Unexpected latency: " + latency, latency >= 1 && latency < haivisionGatewayCommunicator.getPingTimeout());
+		}
+		Assert.assertEquals(3, mockServer.getRequestCount("GET", "api/session"));
+		Assert.assertEquals(connections, mockServer.getConnectionCount());
+		mockServer.close();
+		Assert.assertThrows(RuntimeException.class, () -> haivisionGatewayCommunicator.ping());
+	}
+
+	/**
+	 * An HTTP ping answered with an error body does not extend the session, the next refresh logs in again before it needs the session
+	 */
+	@Test
+	void testHttpPingWithExpiredSession() throws Exception {
+		long pollingInterval = HaivisionConstant.DEFAULT_SESSION_TIMEOUT;
+		useManualClock();
+		haivisionGatewayCommunicator.setPingMode(PingMode.HTTP);
+		haivisionGatewayCommunicator.setPollingInterval(pollingInterval);
+		retrieveStatistics();
+		int logins = mockServer.getRequestCount("POST", "api/session");
+		int deviceRequests = mockServer.getRequestCount("GET", "api/devices");
+
+		mockServer.expireSessions();
+		mockServer.setExpiredSessionCheckStatus(200);
+		clock.advance(pollingInterval / 2);
+		haivisionGatewayCommunicator.ping();
+		clock.advance(pollingInterval / 2);
+		Assert.assertTrue(waitForRequests("POST", "api/session", logins + 1));
+		Assert.assertEquals("0", awaitStatistics(stats -> "0".equals(stats.get(HaivisionConstant.DATA_AGE))).get(HaivisionConstant.DATA_AGE));
+		// the devices were requested once, with the new session
+		Assert.assertEquals(deviceRequests + 1, mockServer.getRequestCount("GET", "api/devices"));
+	}
+
+	/**
+	 * Statistics are read from the latest snapshot without waiting for a slow refresh in flight
+	 */
+	@Test
+	void testStatisticsReadDuringRefresh() throws Exception {
+		useManualClock();
+		retrieveStatistics();
+		int deviceRequests = mockServer.getRequestCount("GET", "api/devices");
+		mockServer.holdRequests("api/devices");
+		try {
+			clock.advance(POLLING_INTERVAL);
+			Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 1));
+			// the refresh is stuck in the device request until it is released, reading must not wait for it
+			ExtendedStatistics statistics = Assertions.assertTimeoutPreemptively(Duration.ofMillis(WAIT_TIMEOUT),
+					() -> (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0));
+			Assert.assertEquals(HaivisionMockServer.getDeviceId(1), statistics.getStatistics().get("DeviceID"));
+			Assert.assertEquals("1", statistics.getStatistics().get(HaivisionConstant.DATA_AGE));
+		} finally {
+			mockServer.releaseRequests();
+		}
+	}
+
+	/**
+	 * Route controls of a batch are merged per route, and their pending status is reported right away
+	 */
+	@Test
+	void testRouteControls() throws Exception {
+		mockServer.setRouteCount(2);
+		haivisionGatewayCommunicator.setRouteControlsEnabled(true);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		ExtendedStatistics statistics = retrieveStatistics();
+		Assert.assertEquals(6, statistics.getControllableProperties().size());
+		Assert.assertEquals("", statistics.getStatistics().get("Route 1#RouteRestart"));
+
+		List<ControllableProperty> controls = new ArrayList<>();
+		for (String property : new String[] { "Route 1#RouteStop", "Route 1#RouteStart", "Route 2#RouteStop", "Route 2#RouteStop" }) {
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty(property);
+			controllableProperty.setValue("0");
+			controls.add(controllableProperty);
+		}
+		haivisionGatewayCommunicator.controlProperties(controls);
+		String routesPath = "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/routes/";
+		Assert.assertEquals(1, mockServer.getRequestCount("PUT", routesPath + HaivisionMockServer.getRouteId(HaivisionMockServer.getDeviceId(1), 1) + "/restart"));
+		Assert.assertEquals(0, mockServer.getRequestCount("PUT", routesPath + HaivisionMockServer.getRouteId(HaivisionMockServer.getDeviceId(1), 1) + "/stop"));
+		Assert.assertEquals(1, mockServer.getRequestCount("PUT", routesPath + HaivisionMockServer.getRouteId(HaivisionMockServer.getDeviceId(1), 2) + "/stop"));
+		statistics = (ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0);
+		Assert.assertEquals("restarting", statistics.getStatistics().get("Route 1#RouteStatus"));
+		Assert.assertEquals("stopping", statistics.getStatistics().get("Route 2#RouteStatus"));
+	}
+
+	/**
+	 * Routes are reported as aggregated devices, and a subset of them can be requested on its own
+	 */
+	@Test
+	void testRouteAggregation() throws Exception {
+		useManualClock();
+		mockServer.setRouteCount(5);
+		haivisionGatewayCommunicator.setRouteAggregationEnabled(true);
+		haivisionGatewayCommunicator.setRouteControlsEnabled(true);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		Assert.assertEquals(DEVICE_PROPERTIES, retrieveStatistics().getStatistics().size());
+		List<AggregatedDevice> devices = haivisionGatewayCommunicator.retrieveMultipleStatistics();
+		Assert.assertEquals(5, devices.size());
+
+		String routeId = HaivisionMockServer.getRouteId(HaivisionMockServer.getDeviceId(1), 3);
+		devices = haivisionGatewayCommunicator.retrieveMultipleStatistics(Collections.singletonList(routeId));
+		Assert.assertEquals(1, devices.size());
+		Assert.assertEquals(routeId, devices.get(0).getDeviceId());
+		Assert.assertEquals(HaivisionMockServer.getRouteName(3), devices.get(0).getProperties().get("RouteName"));
+		Assert.assertEquals(3, devices.get(0).getControllableProperties().size());
+		Assert.assertTrue(devices.get(0).getDeviceOnline());
+		// the buttons of a route are created once
+		Assert.assertSame(devices.get(0).getControllableProperties().get(0),
+				haivisionGatewayCommunicator.retrieveMultipleStatistics(Collections.singletonList(routeId)).get(0).getControllableProperties().get(0));
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId(routeId);
+		controllableProperty.setProperty("RouteStop");
+		controllableProperty.setValue("0");
+		haivisionGatewayCommunicator.controlProperty(controllableProperty);
+		Assert.assertEquals(1, mockServer.getRequestCount("PUT", "api/gateway/" + HaivisionMockServer.getDeviceId(1) + "/routes/" + routeId + "/stop"));
+		devices = haivisionGatewayCommunicator.retrieveMultipleStatistics(Collections.singletonList(routeId));
+		Assert.assertEquals("stopping", devices.get(0).getProperties().get("RouteStatus"));
+		// the pending status is only reported by the aggregated device, not by the adapter
+		Map<String, String> stats = ((ExtendedStatistics) haivisionGatewayCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assert.assertEquals(DEVICE_PROPERTIES, stats.size());
+		Assert.assertNull(stats.get(HaivisionMockServer.getRouteName(3) + "#RouteStatus"));
+
+		// a route in error is reported offline
+		mockServer.setRouteStatus("error");
+		runCycle();
+		devices = haivisionGatewayCommunicator.retrieveMultipleStatistics(Collections.singletonList(routeId));
+		Assert.assertEquals("error", devices.get(0).getProperties().get("RouteStatus"));
+		Assert.assertFalse(devices.get(0).getDeviceOnline());
+	}
+
+	/**
+	 * Many aggregated devices are built in batches, and returned in the order they were requested
+	 */
+	@Test
+	void testAggregatedDevicesInBatches() throws Exception {
+		mockServer.setRouteCount(450);
+		haivisionGatewayCommunicator.setRouteAggregationEnabled(true);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		retrieveStatistics();
+		List<AggregatedDevice> devices = haivisionGatewayCommunicator.retrieveMultipleStatistics();
+		Assert.assertEquals(450, devices.size());
+
+		List<String> deviceIds = new ArrayList<>();
+		for (int i = devices.size() - 1; i >= 0; i--) {
+			deviceIds.add(devices.get(i).getDeviceId());
+		}
+		devices = haivisionGatewayCommunicator.retrieveMultipleStatistics(deviceIds);
+		Assert.assertEquals(deviceIds.size(), devices.size());
+		for (int i = 0; i < deviceIds.size(); i++) {
+			Assert.assertEquals(deviceIds.get(i), devices.get(i).getDeviceId());
+			Assert.assertNotNull(devices.get(i).getProperties().get("RouteName"));
+		}
+	}
+
+	/**
+	 * A restarted adapter reports the statistics of the warm start snapshot, marked stale, until a refresh succeeds
+	 */
+	@Test
+	void testWarmStartSnapshot() throws Exception {
+		useManualClock();
+		mockServer.setRouteCount(2);
+		Path directory = Files.createTempDirectory("haivision-warm-start");
+		haivisionGatewayCommunicator.setWarmStartDirectory(directory.toString());
+		haivisionGatewayCommunicator.setWarmStartInterval(0);
+		haivisionGatewayCommunicator.setRouteControlsEnabled(true);
+		haivisionGatewayCommunicator.setFilterAllRouteName("true");
+		ExtendedStatistics statistics = retrieveStatistics();
+		int routeProperties = statistics.getStatistics().size();
+		int routeControls = statistics.getControllableProperties().size();
+		Assert.assertEquals(6, routeControls);
+		// the snapshot is written by the cycle that refreshed it, before the next cycle starts
+		runCycle();
+		Path snapshotFile = findSnapshotFile(directory);
+		Assert.assertNotNull(snapshotFile);
+		// the file is named after the gateway, the login and the settings of the adapter
+		String prefix = String.format("haivision-srt-%s-%s-%s-", mockServer.getHost(), mockServer.getPort(), HaivisionMockServer.LOGIN);
+		Assert.assertTrue(snapshotFile.getFileName().toString(), snapshotFile.getFileName().toString().startsWith(prefix));
+
+		haivisionGatewayCommunicator.destroy();
+		int deviceRequests = mockServer.getRequestCount("GET", "api/devices");
+		mockServer.injectError("api/devices", 503, Integer.MAX_VALUE);
+		HaivisionGatewayCommunicator restartedCommunicator = new HaivisionGatewayCommunicator();
+		restartedCommunicator.setTrustAllCertificates(true);
+		restartedCommunicator.setProtocol("https");
+		restartedCommunicator.setHost(mockServer.getHost());
+		restartedCommunicator.setPort(mockServer.getPort());
+		restartedCommunicator.setLogin(HaivisionMockServer.LOGIN);
+		restartedCommunicator.setPassword(HaivisionMockServer.PASSWORD);
+		restartedCommunicator.setWarmStartDirectory(directory.toString());
+		restartedCommunicator.setRouteControlsEnabled(true);
+		restartedCommunicator.setFilterAllRouteName("true");
+		restartedCommunicator.setPollingInterval(POLLING_INTERVAL);
+		restartedCommunicator.setClock(clock);
+		restartedCommunicator.init();
+		try {
+			statistics = (ExtendedStatistics) restartedCommunicator.getMultipleStatistics().get(0);
+			Map<String, String> stats = statistics.getStatistics();
+			Assert.assertEquals("true", stats.get("DataStale"));
+			Assert.assertEquals(HaivisionMockServer.getDeviceId(1), stats.get("DeviceID"));
+			Assert.assertEquals(routeProperties + 1, stats.size());
+			// the controls of the restored routes are rebuilt
+			Assert.assertEquals(routeControls, statistics.getControllableProperties().size());
+			Assert.assertEquals("", stats.get(HaivisionMockServer.getRouteName(1) + "#RouteStop"));
+
+			// the first refresh fails, the restored statistics are still reported instead of its error.
+			// The next cycle only starts once the first one has recorded its error
+			Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 1));
+			clock.advance(POLLING_INTERVAL);
+			Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 2));
+			stats = ((ExtendedStatistics) restartedCommunicator.getMultipleStatistics().get(0)).getStatistics();
+			Assert.assertEquals("true", stats.get("DataStale"));
+			Assert.assertEquals(HaivisionMockServer.getDeviceId(1), stats.get("DeviceID"));
+		} finally {
+			restartedCommunicator.destroy();
+			Files.deleteIfExists(snapshotFile);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * An unreachable gateway opens the circuit breaker: the last snapshot is reported with its connection state,
+	 * the gateway is probed less and less often, and the breaker closes once the gateway answers again
+	 */
+	@Test
+	void testCircuitBreaker() throws Exception {
+		useManualClock();
+		retrieveStatistics();
+		int deviceRequests = mockServer.getRequestCount("GET", "api/devices");
+		mockServer.injectError("api/devices", 503, Integer.MAX_VALUE);
+
+		// two failed cycles open the breaker
+		clock.advance(POLLING_INTERVAL);
+		Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 1));
+		clock.advance(POLLING_INTERVAL);
+		Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 2));
+		Map<String, String> stats = awaitStatistics(statistics -> "Disconnected".equals(statistics.get("ConnectionState")));
+		Assert.assertEquals("Disconnected", stats.get("ConnectionState"));
+		Assert.assertEquals("true", stats.get("DataStale"));
+		Assert.assertEquals(HaivisionMockServer.getDeviceId(1), stats.get("DeviceID"));
+
+		// the first probe succeeds one interval later, the cycle it allows fails and the next probe is due two intervals later
+		clock.advance(POLLING_INTERVAL);
+		Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 3));
+		Assert.assertEquals("Disconnected", awaitStatistics(statistics -> "Disconnected".equals(statistics.get("ConnectionState"))).get("ConnectionState"));
+		clock.advance(POLLING_INTERVAL);
+		clock.advance(POLLING_INTERVAL);
+		Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 4));
+		Assert.assertEquals("Disconnected", awaitStatistics(statistics -> "Disconnected".equals(statistics.get("ConnectionState"))).get("ConnectionState"));
+		Assert.assertEquals(deviceRequests + 4, mockServer.getRequestCount("GET", "api/devices"));
+
+		// the next probe is due four intervals later and closes the breaker once the gateway answers again
+		mockServer.clearErrors();
+		clock.advance(4 * POLLING_INTERVAL);
+		stats = awaitStatistics(statistics -> "Connected".equals(statistics.get("ConnectionState")));
+		Assert.assertEquals("Connected", stats.get("ConnectionState"));
+		Assert.assertNull(stats.get("DataStale"));
+	}
+
+	/**
+	 * Rejected credentials do not open the circuit breaker, the login is tried again on every cycle and its error is reported as it is
+	 */
+	@Test
+	void testRejectedCredentials() throws Exception {
+		HaivisionGatewayCommunicator communicator = new HaivisionGatewayCommunicator();
+		communicator.setTrustAllCertificates(true);
+		communicator.setProtocol("https");
+		communicator.setHost(mockServer.getHost());
+		communicator.setPort(mockServer.getPort());
+		communicator.setLogin(HaivisionMockServer.LOGIN);
+		communicator.setPassword("wrong password");
+		communicator.setPollingInterval(POLLING_INTERVAL);
+		communicator.setClock(clock);
+		communicator.init();
+		try {
+			int logins = mockServer.getRequestCount("POST", "api/session");
+			communicator.getMultipleStatistics();
+			Assert.assertTrue(waitForRequests("POST", "api/session", logins + 1));
+			for (int i = 2; i <= 5; i++) {
+				clock.advance(POLLING_INTERVAL);
+				Assert.assertTrue("Login of cycle " + i, waitForRequests("POST", "api/session", logins + i));
+			}
+			Exception error = null;
+			long deadline = System.currentTimeMillis() + WAIT_TIMEOUT;
+			while (error == null && System.currentTimeMillis() < deadline) {
+				try {
+					communicator.getMultipleStatistics();
+					Thread.sleep(20);
+				} catch (Exception e) {
+					error = e;
+				}
+			}
+			Assert.assertTrue(String.valueOf(error), error instanceof FailedLoginException);
+			Assert.assertEquals(0, mockServer.getRequestCount("GET", "api/devices"));
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Destroying the adapter waits for the refresh in flight, which leaves no session open on the gateway
+	 * even if it had to log in again
+	 */
+	@Test
+	void testDestroyDuringRefresh() throws Exception {
+		useManualClock();
+		retrieveStatistics();
+		int deviceRequests = mockServer.getRequestCount("GET", "api/devices");
+		mockServer.holdRequests("api/devices");
+		mockServer.expireSessions();
+		clock.advance(POLLING_INTERVAL);
+		Assert.assertTrue(waitForRequests("GET", "api/devices", deviceRequests + 1));
+
+		Thread destroyThread = new Thread(haivisionGatewayCommunicator::destroy);
+		destroyThread.start();
+		// the session is not deleted while the refresh is held
+		Assert.assertFalse(mockServer.awaitRequests("DELETE", "api/session", 1, 500));
+		mockServer.releaseRequests();
+		destroyThread.join(WAIT_TIMEOUT);
+		Assert.assertFalse(destroyThread.isAlive());
+		Assert.assertEquals(1, mockServer.getRequestCount("DELETE", "api/session"));
+		Assert.assertEquals(0, mockServer.getSessionCount());
 	}
 }
@@ -0,0 +1,748 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsParameters;
+import com.sun.net.httpserver.HttpsServer;
+
+/**
+ * In-process HTTPS stand-in for the Haivision SRT Gateway API, so the adapter can be tested without a live gateway.
+ * It serves api/session, api/devices, api/gateway/{id}/routes, api/gateway/{id}/statistics and the route controls
+ * with generated devices and routes,
+ * and can add latency, fail or hold requests and expire sessions on demand.
+ * Responses are gzip compressed when the client accepts it.
+ * Every request and TLS connection is counted, so tests can check how many requests and handshakes the adapter causes.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+public class HaivisionMockServer implements AutoCloseable {
+	public static final String LOGIN = "admin";
+	public static final String PASSWORD = "password";
+	public static final long LAST_CONNECTED_AT = 1723626000000L;
+
+	private static final String KEYSTORE = "/haivision-mock-server.p12";
+	private static final char[] KEYSTORE_PASSWORD = "changeit".toCharArray();
+	private static final String ROUTES_PATH = "/api/gateway/";
+	private static final String SESSION_COOKIE = "sessionID=";
+
+	/**
+	 * Failure injected for the requests whose path starts with a prefix
+	 */
+	private static class ErrorRule {
+		private final String pathPrefix;
+		private final int status;
+		private final AtomicInteger remaining;
+
+		private ErrorRule(String pathPrefix, int status, int times) {
+			this.pathPrefix = pathPrefix;
+			this.status = status;
+			this.remaining = new AtomicInteger(times);
+		}
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpsServer server;
+	private final ExecutorService executorService = Executors.newCachedThreadPool();
+	private final Map<String, Long> sessions = new ConcurrentHashMap<>();
+	private volatile int expiredSessionCheckStatus = 401;
+	private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+	private final List<ErrorRule> errorRules = new CopyOnWriteArrayList<>();
+	private final AtomicInteger activeRequests = new AtomicInteger();
+	private final AtomicInteger maxActiveRequests = new AtomicInteger();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final AtomicInteger compressedResponseCount = new AtomicInteger();
+
+	private volatile int deviceCount = 1;
+	private volatile int routeCount = 10;
+	private volatile int destinationCount = 1;
+	private volatile boolean reportCount = true;
+	private volatile String routeStatus = "ok";
+	private volatile long latency;
+	private volatile long statisticsLatency;
+	private volatile long sessionTimeout = Long.MAX_VALUE;
+	private volatile String heldPathPrefix;
+	private volatile CountDownLatch heldRequests = new CountDownLatch(0);
+
+	/**
+	 * Creates the server on an ephemeral port of the loopback interface, call {@link #start()} to serve requests.
+	 *
+	 * @throws Exception if the server cannot be created.
+	 */
+	public HaivisionMockServer() throws Exception {
+		server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.setHttpsConfigurator(new HttpsConfigurator(createSslContext()) {
+			@Override
+			public void configure(HttpsParameters params) {
+				// called once for every new TLS connection
+				connectionCount.incrementAndGet();
+				super.configure(params);
+			}
+		});
+		server.setExecutor(executorService);
+		server.createContext("/", this::handle);
+	}
+
+	/**
+	 * Creates the TLS context from the self-signed test keystore.
+	 *
+	 * @return the TLS context.
+	 * @throws Exception if the keystore cannot be loaded.
+	 */
+	private SSLContext createSslContext() throws Exception {
+		KeyStore keyStore = KeyStore.getInstance("PKCS12");
+		try (InputStream inputStream = HaivisionMockServer.class.getResourceAsStream(KEYSTORE)) {
+			keyStore.load(inputStream, KEYSTORE_PASSWORD);
+		}
+		KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD);
+		SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+		return sslContext;
+	}
+
+	/**
+	 * Starts serving requests.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops the server and the threads handling its requests.
+	 */
+	@Override
+	public void close() {
+		releaseRequests();
+		server.stop(0);
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Retrieves the address the server is bound to.
+	 *
+	 * @return the loopback address.
+	 */
+	public String getHost() {
+		return server.getAddress().getAddress().getHostAddress();
+	}
+
+	/**
+	 * Retrieves the port the server is bound to.
+	 *
+	 * @return the ephemeral port.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Sets the number of gateways returned by api/devices.
+	 *
+	 * @param deviceCount the number of gateways.
+	 */
+	public void setDeviceCount(int deviceCount) {
+		this.deviceCount = deviceCount;
+	}
+
+	/**
+	 * Sets the number of routes of every gateway.
+	 *
+	 * @param routeCount the number of routes.
+	 */
+	public void setRouteCount(int routeCount) {
+		this.routeCount = routeCount;
+	}
+
+	/**
+	 * Sets the number of destinations of every route.
+	 *
+	 * @param destinationCount the number of destinations.
+	 */
+	public void setDestinationCount(int destinationCount) {
+		this.destinationCount = destinationCount;
+	}
+
+	/**
+	 * Sets whether the routes response reports the total count, as newer firmwares do.
+	 *
+	 * @param reportCount true to report the count.
+	 */
+	public void setReportCount(boolean reportCount) {
+		this.reportCount = reportCount;
+	}
+
+	/**
+	 * Sets the summary status reported for every route.
+	 *
+	 * @param routeStatus the route status, e.g. "ok" or "error".
+	 */
+	public void setRouteStatus(String routeStatus) {
+		this.routeStatus = routeStatus;
+	}
+
+	/**
+	 * Sets the delay added before every response.
+	 *
+	 * @param latency the delay in milliseconds.
+	 */
+	public void setLatency(long latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * Sets the delay added before every route statistics response, on top of {@link #setLatency(long)}.
+	 *
+	 * @param statisticsLatency the delay in milliseconds.
+	 */
+	public void setStatisticsLatency(long statisticsLatency) {
+		this.statisticsLatency = statisticsLatency;
+	}
+
+	/**
+	 * Sets how long a session stays valid without being used.
+	 *
+	 * @param sessionTimeout the idle timeout in milliseconds.
+	 */
+	public void setSessionTimeout(long sessionTimeout) {
+		this.sessionTimeout = sessionTimeout;
+	}
+
+	/**
+	 * Sets the status of the answer to a session check with an invalid session, which always has an error body.
+	 *
+	 * @param expiredSessionCheckStatus the HTTP status, 401 by default.
+	 */
+	public void setExpiredSessionCheckStatus(int expiredSessionCheckStatus) {
+		this.expiredSessionCheckStatus = expiredSessionCheckStatus;
+	}
+
+	/**
+	 * Invalidates every open session, the next requests using them are answered with 401.
+	 */
+	public void expireSessions() {
+		sessions.clear();
+	}
+
+	/**
+	 * Retrieves the number of sessions opened and neither deleted nor expired.
+	 *
+	 * @return the number of sessions.
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Answers the next requests whose path starts with the given prefix with an error status.
+	 *
+	 * @param pathPrefix prefix of the request path, without the leading slash, e.g. "api/gateway".
+	 * @param status the HTTP status to answer with.
+	 * @param times the number of requests to fail.
+	 */
+	public void injectError(String pathPrefix, int status, int times) {
+		errorRules.add(new ErrorRule("/" + pathPrefix, status, times));
+	}
+
+	/**
+	 * Removes the failures injected so far, the next requests are answered normally.
+	 */
+	public void clearErrors() {
+		errorRules.clear();
+	}
+
+	/**
+	 * Retrieves the number of requests received for a method and path.
+	 *
+	 * @param method the HTTP method.
+	 * @param path the request path without the leading slash and the query, e.g. "api/session".
+	 * @return the number of requests.
+	 */
+	public int getRequestCount(String method, String path) {
+		AtomicInteger count = requestCounts.get(method + " /" + path);
+		return count == null ? 0 : count.get();
+	}
+
+	/**
+	 * Waits until the number of requests received for a method and path reaches a count.
+	 * The caller is woken up by every request, so it returns as soon as the request is received.
+	 *
+	 * @param method the HTTP method.
+	 * @param path the request path without the leading slash and the query, e.g. "api/session".
+	 * @param count the expected number of requests.
+	 * @param timeout maximum time to wait, in milliseconds.
+	 * @return true if the count was reached in time.
+	 * @throws InterruptedException if the caller is interrupted while waiting.
+	 */
+	public boolean awaitRequests(String method, String path, int count, long timeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeout;
+		synchronized (requestCounts) {
+			while (getRequestCount(method, path) < count) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return false;
+				}
+				requestCounts.wait(remaining);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Holds the next requests whose path starts with the given prefix, once they are counted and before they are answered,
+	 * until {@link #releaseRequests()} is called.
+	 *
+	 * @param pathPrefix prefix of the request path, without the leading slash, e.g. "api/devices".
+	 */
+	public void holdRequests(String pathPrefix) {
+		heldRequests = new CountDownLatch(1);
+		heldPathPrefix = "/" + pathPrefix;
+	}
+
+	/**
+	 * Answers the requests held by {@link #holdRequests(String)}, and stops holding requests.
+	 */
+	public void releaseRequests() {
+		heldPathPrefix = null;
+		heldRequests.countDown();
+	}
+
+	/**
+	 * Retrieves the number of TLS connections opened by clients.
+	 *
+	 * @return the number of connections.
+	 */
+	public int getConnectionCount() {
+		return connectionCount.get();
+	}
+
+	/**
+	 * Retrieves the number of responses sent gzip compressed.
+	 *
+	 * @return the number of compressed responses.
+	 */
+	public int getCompressedResponseCount() {
+		return compressedResponseCount.get();
+	}
+
+	/**
+	 * Retrieves the highest number of requests that were being handled at the same time.
+	 *
+	 * @return the highest number of concurrent requests.
+	 */
+	public int getMaxActiveRequests() {
+		return maxActiveRequests.get();
+	}
+
+	/**
+	 * Retrieves the ID of a generated gateway.
+	 *
+	 * @param index the 1-based index of the gateway.
+	 * @return the gateway ID.
+	 */
+	public static String getDeviceId(int index) {
+		return "device-" + index;
+	}
+
+	/**
+	 * Retrieves the ID of a generated route.
+	 *
+	 * @param deviceId the ID of the gateway.
+	 * @param index the 1-based index of the route.
+	 * @return the route ID.
+	 */
+	public static String getRouteId(String deviceId, int index) {
+		return deviceId + "-route-" + index;
+	}
+
+	/**
+	 * Retrieves the name of a generated route.
+	 *
+	 * @param index the 1-based index of the route.
+	 * @return the route name.
+	 */
+	public static String getRouteName(int index) {
+		return "Route " + index;
+	}
+
+	/**
+	 * Handles every request of the server.
+	 *
+	 * @param exchange the request and its response.
+	 * @throws IOException if the response cannot be written.
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		int active = activeRequests.incrementAndGet();
+		maxActiveRequests.accumulateAndGet(active, Math::max);
+		try {
+			String method = exchange.getRequestMethod();
+			String path = exchange.getRequestURI().getPath();
+			requestCounts.computeIfAbsent(method + " " + path, key -> new AtomicInteger()).incrementAndGet();
+			synchronized (requestCounts) {
+				requestCounts.notifyAll();
+			}
+			String heldPrefix = heldPathPrefix;
+			if (heldPrefix != null && path.startsWith(heldPrefix)) {
+				heldRequests.await();
+			}
+			if (latency > 0) {
+				Thread.sleep(latency);
+			}
+			Integer injectedStatus = nextInjectedError(path);
+			if (injectedStatus != null) {
+				sendJson(exchange, injectedStatus, error("Injected error"));
+				return;
+			}
+			if ("/api/session".equals(path)) {
+				handleSession(exchange, method);
+				return;
+			}
+			if (!isSessionValid(exchange)) {
+				sendJson(exchange, 401, error("Session is not valid"));
+				return;
+			}
+			if ("/api/devices".equals(path) && "GET".equals(method)) {
+				sendJson(exchange, 200, devices());
+			} else if (path.startsWith(ROUTES_PATH) && path.endsWith("/routes") && "GET".equals(method)) {
+				String deviceId = path.substring(ROUTES_PATH.length(), path.length() - "/routes".length());
+				sendJson(exchange, 200, routes(deviceId, parseQuery(exchange.getRequestURI().getRawQuery())));
+			} else if (path.startsWith(ROUTES_PATH) && path.endsWith("/statistics") && "GET".equals(method)) {
+				if (statisticsLatency > 0) {
+					Thread.sleep(statisticsLatency);
+				}
+				String routeId = parseQuery(exchange.getRequestURI().getRawQuery()).get("routeID");
+				sendJson(exchange, 200, statistics(routeId));
+			} else if (path.startsWith(ROUTES_PATH) && path.contains("/routes/") && "PUT".equals(method)) {
+				sendJson(exchange, 200, singletonMap("response", singletonMap("message", "Route updated")));
+			} else {
+				sendJson(exchange, 404, error("Not found"));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			activeRequests.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Handles the login, session check and logout requests.
+	 *
+	 * @param exchange the request and its response.
+	 * @param method the HTTP method.
+	 * @throws IOException if the response cannot be written.
+	 */
+	private void handleSession(HttpExchange exchange, String method) throws IOException {
+		if ("POST".equals(method)) {
+			JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+			if (!LOGIN.equals(body.path("username").asText()) || !PASSWORD.equals(body.path("password").asText())) {
+				sendJson(exchange, 403, error("Invalid credentials"));
+				return;
+			}
+			String sessionId = UUID.randomUUID().toString();
+			sessions.put(sessionId, System.currentTimeMillis());
+			Map<String, Object> response = new HashMap<>();
+			response.put("sessionID", sessionId);
+			sendJson(exchange, 200, singletonMap("response", response));
+		} else if ("DELETE".equals(method)) {
+			String sessionId = getSessionId(exchange);
+			if (sessionId != null) {
+				sessions.remove(sessionId);
+			}
+			sendJson(exchange, 200, singletonMap("response", singletonMap("message", "Logged out")));
+		} else if ("GET".equals(method)) {
+			if (isSessionValid(exchange)) {
+				sendJson(exchange, 200, singletonMap("response", singletonMap("sessionID", getSessionId(exchange))));
+			} else {
+				sendJson(exchange, expiredSessionCheckStatus, error("Session is not valid"));
+			}
+		} else {
+			sendJson(exchange, 405, error("Method not allowed"));
+		}
+	}
+
+	/**
+	 * Checks the session of a request and refreshes its last activity.
+	 *
+	 * @param exchange the request.
+	 * @return true if the request carries a session that exists and has not been idle for too long.
+	 */
+	private boolean isSessionValid(HttpExchange exchange) {
+		String sessionId = getSessionId(exchange);
+		if (sessionId == null) {
+			return false;
+		}
+		long now = System.currentTimeMillis();
+		Long lastActivity = sessions.get(sessionId);
+		if (lastActivity == null || now - lastActivity > sessionTimeout) {
+			sessions.remove(sessionId);
+			return false;
+		}
+		sessions.put(sessionId, now);
+		return true;
+	}
+
+	/**
+	 * Reads the session ID from the Cookie header of a request.
+	 *
+	 * @param exchange the request.
+	 * @return the session ID, or null if there is none.
+	 */
+	private String getSessionId(HttpExchange exchange) {
+		String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+		if (cookie == null) {
+			return null;
+		}
+		for (String part : cookie.split(";")) {
+			part = part.trim();
+			if (part.startsWith(SESSION_COOKIE)) {
+				return part.substring(SESSION_COOKIE.length());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Consumes one injected failure matching a path.
+	 *
+	 * @param path the request path.
+	 * @return the status to answer with, or null if the request must not fail.
+	 */
+	private Integer nextInjectedError(String path) {
+		for (ErrorRule rule : errorRules) {
+			if (path.startsWith(rule.pathPrefix) && rule.remaining.getAndDecrement() > 0) {
+				return rule.status;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Builds the api/devices response.
+	 *
+	 * @return the gateways.
+	 */
+	private List<Object> devices() {
+		List<Object> devices = new ArrayList<>();
+		for (int i = 1; i <= deviceCount; i++) {
+			Map<String, Object> device = new LinkedHashMap<>();
+			device.put("_id", getDeviceId(i));
+			device.put("type", "Gateway");
+			device.put("ip", "127.0.0.1");
+			device.put("name", "Haivision Media Gateway " + i);
+			device.put("lastConnectedAt", LAST_CONNECTED_AT);
+			device.put("statusCode", "Ok");
+			device.put("status", "Online");
+			device.put("statusDetails", "Connection has been established in the last 1 minutes.");
+			device.put("serialNumber", "VMware-42358b0285d8a8d8 8351cd837767f41" + i);
+			device.put("firmware", "5.5.230907.1727");
+			device.put("hasAdminError", false);
+			device.put("pendingSync", false);
+			device.put("lastConnection", "<1m");
+			devices.add(device);
+		}
+		return devices;
+	}
+
+	/**
+	 * Builds a page of the api/gateway/{id}/routes response.
+	 *
+	 * @param deviceId the gateway ID.
+	 * @param query the query parameters.
+	 * @return the page.
+	 */
+	private Map<String, Object> routes(String deviceId, Map<String, String> query) {
+		int page = Math.max(1, Integer.parseInt(query.getOrDefault("page", "1")));
+		int pageSize = Math.max(1, Integer.parseInt(query.getOrDefault("pageSize", String.valueOf(routeCount))));
+		List<Object> data = new ArrayList<>();
+		for (int i = (page - 1) * pageSize + 1; i <= Math.min(routeCount, page * pageSize); i++) {
+			data.add(route(deviceId, i));
+		}
+		Map<String, Object> response = new LinkedHashMap<>();
+		if (reportCount) {
+			response.put("count", routeCount);
+		}
+		response.put("data", data);
+		return response;
+	}
+
+	/**
+	 * Builds a single route.
+	 *
+	 * @param deviceId the gateway ID.
+	 * @param index the 1-based index of the route.
+	 * @return the route.
+	 */
+	private Map<String, Object> route(String deviceId, int index) {
+		Map<String, Object> route = new LinkedHashMap<>();
+		route.put("id", getRouteId(deviceId, index));
+		route.put("name", getRouteName(index));
+		route.put("state", "running");
+		route.put("summaryStatusDetails", routeStatus);
+		route.put("elapsedTime", String.format("%02d:%02d:%02d", index / 3600, index / 60 % 60, index % 60));
+		route.put("source", endpoint("Source " + index, "caller", "srt", "10.0.0." + index % 256, 9000 + index));
+		List<Object> destinations = new ArrayList<>();
+		for (int i = 1; i <= destinationCount; i++) {
+			destinations.add(endpoint("Destination " + index + "-" + i, "listener", "udp", "10.0.1." + i % 256, 10000 + i));
+		}
+		route.put("destinations", destinations);
+		return route;
+	}
+
+	/**
+	 * Builds the SRT statistics of a route, the values are derived from the route index.
+	 *
+	 * @param routeId the route ID.
+	 * @return the statistics of the route source and destinations.
+	 */
+	private Map<String, Object> statistics(String routeId) {
+		int index = Integer.parseInt(routeId.substring(routeId.lastIndexOf('-') + 1));
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		statistics.put("source", endpointStatistics(index, 0));
+		List<Object> destinations = new ArrayList<>();
+		for (int i = 1; i <= destinationCount; i++) {
+			destinations.add(endpointStatistics(index, i));
+		}
+		statistics.put("destinations", destinations);
+		return statistics;
+	}
+
+	/**
+	 * Builds the SRT statistics of a route source or destination.
+	 *
+	 * @param index the 1-based index of the route.
+	 * @param endpoint 0 for the source, otherwise the 1-based index of the destination.
+	 * @return the endpoint statistics.
+	 */
+	private Map<String, Object> endpointStatistics(int index, int endpoint) {
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		statistics.put("bitrate", 1000 * index + endpoint);
+		statistics.put("rtt", 10 + endpoint);
+		statistics.put("packetLoss", index % 3);
+		statistics.put("retransmits", index % 5);
+		statistics.put("buffer", 120);
+		return statistics;
+	}
+
+	/**
+	 * Builds a route source or destination.
+	 *
+	 * @param name the endpoint name.
+	 * @param mode the endpoint mode.
+	 * @param protocol the endpoint protocol.
+	 * @param address the endpoint address.
+	 * @param port the endpoint port.
+	 * @return the endpoint.
+	 */
+	private Map<String, Object> endpoint(String name, String mode, String protocol, String address, int port) {
+		Map<String, Object> endpoint = new LinkedHashMap<>();
+		endpoint.put("name", name);
+		endpoint.put("mode", mode);
+		endpoint.put("protocol", protocol);
+		endpoint.put("address", address);
+		endpoint.put("port", port);
+		endpoint.put("summaryStatusDetails", "ok");
+		return endpoint;
+	}
+
+	/**
+	 * Parses the query string of a request.
+	 *
+	 * @param rawQuery the raw query, may be null.
+	 * @return the query parameters.
+	 */
+	private Map<String, String> parseQuery(String rawQuery) {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery != null) {
+			for (String parameter : rawQuery.split("&")) {
+				int separator = parameter.indexOf('=');
+				if (separator > 0) {
+					query.put(parameter.substring(0, separator), parameter.substring(separator + 1));
+				}
+			}
+		}
+		return query;
+	}
+
+	/**
+	 * Builds an error body.
+	 *
+	 * @param message the error message.
+	 * @return the error body.
+	 */
+	private Map<String, Object> error(String message) {
+		return singletonMap("error", message);
+	}
+
+	/**
+	 * Builds a mutable single entry map.
+	 *
+	 * @param key the key.
+	 * @param value the value.
+	 * @return the map.
+	 */
+	private Map<String, Object> singletonMap(String key, Object value) {
+		Map<String, Object> map = new HashMap<>();
+		map.put(key, value);
+		return map;
+	}
+
+	/**
+	 * Writes a JSON response.
+	 *
+	 * @param exchange the request and its response.
+	 * @param status the HTTP status.
+	 * @param body the value serialized as the response body.
+	 * @throws IOException if the response cannot be written.
+	 */
+	private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+		if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+			try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+				gzipOutputStream.write(bytes);
+			}
+			bytes = compressed.toByteArray();
+			exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+			compressedResponseCount.incrementAndGet();
+		}
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link HaivisionFormatter} against the formatting it replaced, kept here as the reference.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class HaivisionFormatterTest {
+	private final HaivisionFormatter formatter = new HaivisionFormatter(4);
+
+	/**
+	 * Previous LastConnected formatting, with a new SimpleDateFormat per call.
+	 *
+	 * @param inputValue the string representing milliseconds.
+	 * @return the formatted date string.
+	 */
+	private static String legacyFormatMillisecondsToDate(String inputValue) {
+		if (inputValue.equals(HaivisionConstant.NONE)) {
+			return inputValue;
+		}
+		try {
+			long milliseconds = Long.parseLong(inputValue);
+			Date date = new Date(milliseconds);
+			SimpleDateFormat dateFormat = new SimpleDateFormat("MMM d, yyyy, h:mm a");
+			dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+			return dateFormat.format(date);
+		} catch (Exception e) {
+			return HaivisionConstant.NONE;
+		}
+	}
+
+	/**
+	 * Previous RouteUptime formatting, which split the value and failed on anything but three numeric parts.
+	 *
+	 * @param timeStr the time string to convert.
+	 * @return the formatted time string.
+	 */
+	private static String legacyConvertTimeFormat(String timeStr) {
+		if (HaivisionConstant.NONE.equals(timeStr) || "00:00:00".equals(timeStr)) {
+			return timeStr.equals("00:00:00") ? "No Activity" : HaivisionConstant.NONE;
+		}
+		String[] parts = timeStr.split(HaivisionConstant.COLON);
+		if (parts.length < 2) {
+			return HaivisionConstant.NONE;
+		}
+		int hours = Integer.parseInt(parts[0]);
+		int minutes = Integer.parseInt(parts[1]);
+		int seconds = Integer.parseInt(parts[2]);
+		return String.format("%d hour(s) %d minute(s) %d second(s)", hours, minutes, seconds);
+	}
+
+	/**
+	 * Dates are formatted exactly as before, including invalid values, and again the same once cached
+	 */
+	@Test
+	void testDateMatchesLegacyFormat() {
+		String[] values = { "None", "0", "1723626000000", "1723669200000", "1704067199999", "1709164800000", "-86400000", "253402300799999", "", "abc", "12.5",
+				"99999999999999999999" };
+		for (int pass = 0; pass < 2; pass++) {
+			for (String value : values) {
+				Assert.assertEquals("LastConnected " + value, legacyFormatMillisecondsToDate(value), formatter.formatMillisecondsToDate(value));
+			}
+		}
+	}
+
+	/**
+	 * Three-part uptimes are rendered exactly as before, and again the same once cached
+	 */
+	@Test
+	void testUptimeMatchesLegacyFormat() {
+		String[] values = { "None", "00:00:00", "0:0:0", "00:00:01", "01:02:03", "12:34:56", "100:59:59", "2147483647:0:0", "-1:30:00", "+1:02:03",
+				"1:2:3:4", "007:08:09" };
+		for (int pass = 0; pass < 2; pass++) {
+			for (String value : values) {
+				Assert.assertEquals("RouteUptime " + value, legacyConvertTimeFormat(value), formatter.convertTimeFormat(value));
+			}
+		}
+	}
+
+	/**
+	 * Values the previous formatting failed on are now reported: two parts as hours:minutes, anything else invalid as None
+	 */
+	@Test
+	void testUptimeValuesRejectedByLegacyFormat() {
+		String[][] cases = {
+				{ "01:02", "1 hour(s) 2 minute(s) 0 second(s)" },
+				{ "00:00", "0 hour(s) 0 minute(s) 0 second(s)" },
+				{ "48:30", "48 hour(s) 30 minute(s) 0 second(s)" },
+				{ "", "None" },
+				{ "12", "None" },
+				{ "1::3", "None" },
+				{ "a:b:c", "None" },
+				{ "1:2:x", "None" },
+				{ "2147483648:0:0", "None" },
+				{ "-:1:2", "None" },
+		};
+		for (String[] item : cases) {
+			String value = item[0];
+			if (value.split(HaivisionConstant.COLON).length >= 2) {
+				Assert.assertThrows("Legacy RouteUptime " + value, RuntimeException.class, () -> legacyConvertTimeFormat(value));
+			}
+			Assert.assertEquals("RouteUptime " + value, item[1], formatter.convertTimeFormat(value));
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link RouteNameFilter}, checked against a plain case-insensitive contains on every term.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class RouteNameFilterTest {
+	private static final String[] ROUTE_NAMES = { "", "a", "Route 1", "Route 10", "route 2", "ROUTE 3", "Studio A - Route 1", "ushers", "she", "hers",
+			"aaab", "abcd", "xbcx", "Café Feed", "CAFÉ FEED" };
+
+	/**
+	 * Matches a route name the way the filter is expected to, one term at a time.
+	 *
+	 * @param filter comma-separated terms.
+	 * @param routeName the route name.
+	 * @return true if the route name contains a non-empty term, ignoring case.
+	 */
+	private static boolean containsAnyTerm(String filter, String routeName) {
+		for (String term : filter.split(",")) {
+			term = term.trim();
+			if (!term.isEmpty() && routeName.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Every filter matches the same route names as a case-insensitive contains on each of its terms
+	 */
+	@Test
+	void testMatchesLikeContains() {
+		String[] filters = {
+				"Route 1",
+				// overlapping terms, one term is a prefix, a suffix or an infix of another
+				"he,she,his,hers",
+				"Route,Route 1,oute",
+				"abc,bcd,b",
+				// the failure links must fall back over a repeated prefix
+				"aab",
+				"aaab,ab",
+				// case is ignored in the terms and the route names
+				"ROUTE 2",
+				"route 3",
+				"café",
+				// empty and blank terms are ignored
+				",Route 10,",
+				" , ,Studio",
+		};
+		for (String filter : filters) {
+			RouteNameFilter routeNameFilter = new RouteNameFilter(filter);
+			for (String routeName : ROUTE_NAMES) {
+				Assert.assertEquals(String.format("Filter '%s' on route name '%s'", filter, routeName), containsAnyTerm(filter, routeName),
+						routeNameFilter.matches(routeName));
+			}
+		}
+	}
+
+	/**
+	 * Overlapping terms match wherever one of them appears
+	 */
+	@Test
+	void testOverlappingTerms() {
+		RouteNameFilter routeNameFilter = new RouteNameFilter("abc,bcd");
+		Assert.assertTrue(routeNameFilter.matches("xbcd"));
+		Assert.assertTrue(routeNameFilter.matches("abcx"));
+		Assert.assertFalse(routeNameFilter.matches("abx bcx"));
+
+		routeNameFilter = new RouteNameFilter("she,hers");
+		Assert.assertTrue(routeNameFilter.matches("ushers"));
+		Assert.assertTrue(routeNameFilter.matches("hers"));
+		Assert.assertFalse(routeNameFilter.matches("her"));
+	}
+
+	/**
+	 * Empty terms are ignored, a filter made of empty terms only matches nothing
+	 */
+	@Test
+	void testEmptyTerms() {
+		for (String filter : new String[] { "", ",", " , ,", "  " }) {
+			RouteNameFilter routeNameFilter = new RouteNameFilter(filter);
+			for (String routeName : ROUTE_NAMES) {
+				Assert.assertFalse(String.format("Filter '%s' on route name '%s'", filter, routeName), routeNameFilter.matches(routeName));
+			}
+		}
+		Assert.assertTrue(new RouteNameFilter(",,Route 2,").matches("Route 2"));
+	}
+
+	/**
+	 * Terms are trimmed and matched ignoring case
+	 */
+	@Test
+	void testCaseAndWhitespace() {
+		RouteNameFilter routeNameFilter = new RouteNameFilter(" route 1 , STUDIO ");
+		Assert.assertTrue(routeNameFilter.matches("ROUTE 1"));
+		Assert.assertTrue(routeNameFilter.matches("Route 10"));
+		Assert.assertTrue(routeNameFilter.matches("studio b"));
+		Assert.assertFalse(routeNameFilter.matches("Route 2"));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("Route 1", "Route 10", "Studio A - Route 1")),
+				routeNameFilter.filter(Arrays.asList(ROUTE_NAMES)));
+	}
+}
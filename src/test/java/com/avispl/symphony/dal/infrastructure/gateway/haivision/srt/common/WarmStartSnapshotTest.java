@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteEndpoint;
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route.RouteInfo;
+
+/**
+ * Tests of {@link WarmStartSnapshot} written to a file and read back.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class WarmStartSnapshotTest {
+	/**
+	 * Offset of the statistics count in the uncompressed file: magic, version, route and endpoint field counts, timestamp
+	 */
+	private static final int STATISTICS_COUNT_OFFSET = 24;
+
+	/**
+	 * Builds a string of a given number of characters.
+	 *
+	 * @param character the repeated character.
+	 * @param count the number of characters.
+	 * @return the string.
+	 */
+	private static String repeat(char character, int count) {
+		char[] characters = new char[count];
+		Arrays.fill(characters, character);
+		return new String(characters);
+	}
+
+	/**
+	 * Statistics, routes and null values are read back as written, including strings longer than 65535 UTF-8 bytes
+	 */
+	@Test
+	void testWriteAndRead() throws Exception {
+		Map<String, String> statistics = new HashMap<>();
+		statistics.put("DeviceID", "device-1");
+		statistics.put("Route 1#RouteName", repeat('é', 40000));
+		statistics.put(repeat('k', 70000), "value");
+		statistics.put("Route 1#RouteStatus", null);
+
+		RouteInfo route = new RouteInfo();
+		route.setValue(RouteInfoEnum.ID, "route-1");
+		route.setValue(RouteInfoEnum.NAME, repeat('r', 66000));
+		route.setSource(new RouteEndpoint());
+		List<WarmStartSnapshot.Route> routes = new ArrayList<>();
+		routes.add(new WarmStartSnapshot.Route("device-1", "Route 1", route));
+
+		Path directory = Files.createTempDirectory("haivision-warm-start");
+		Path file = directory.resolve("test.snapshot");
+		try {
+			new WarmStartSnapshot(1000, statistics, routes).write(file);
+			WarmStartSnapshot snapshot = WarmStartSnapshot.read(file);
+			Assert.assertEquals(1000, snapshot.getTimestamp());
+			Assert.assertEquals(statistics, snapshot.getStatistics());
+			Assert.assertEquals(1, snapshot.getRoutes().size());
+			WarmStartSnapshot.Route restoredRoute = snapshot.getRoutes().get(0);
+			Assert.assertEquals("device-1", restoredRoute.getDeviceId());
+			Assert.assertEquals("Route 1", restoredRoute.getGroup());
+			Assert.assertEquals("route-1", restoredRoute.getRoute().getId());
+			Assert.assertEquals(route.getName(), restoredRoute.getRoute().getName());
+			Assert.assertNotNull(restoredRoute.getRoute().getSource());
+			Assert.assertNull(restoredRoute.getRoute().getDestinations());
+		} finally {
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * An empty snapshot is read back empty
+	 */
+	@Test
+	void testEmptySnapshot() throws Exception {
+		Path directory = Files.createTempDirectory("haivision-warm-start");
+		Path file = directory.resolve("test.snapshot");
+		try {
+			new WarmStartSnapshot(0, Collections.emptyMap(), Collections.emptyList()).write(file);
+			WarmStartSnapshot snapshot = WarmStartSnapshot.read(file);
+			Assert.assertTrue(snapshot.getStatistics().isEmpty());
+			Assert.assertTrue(snapshot.getRoutes().isEmpty());
+		} finally {
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Writes a snapshot with one statistic, then replaces an int of its uncompressed content.
+	 *
+	 * @param file the snapshot file.
+	 * @param offset offset of the int in the uncompressed content.
+	 * @param value the new value.
+	 */
+	private static void writeCorruptSnapshot(Path file, int offset, int value) throws Exception {
+		new WarmStartSnapshot(1000, Collections.singletonMap("DeviceID", "device-1"), Collections.emptyList()).write(file);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+			byte[] buffer = new byte[1024];
+			for (int read = input.read(buffer); read > 0; read = input.read(buffer)) {
+				content.write(buffer, 0, read);
+			}
+		}
+		ByteBuffer bytes = ByteBuffer.wrap(content.toByteArray());
+		bytes.putInt(offset, value);
+		try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(file))) {
+			output.write(bytes.array());
+		}
+	}
+
+	/**
+	 * Corrupt lengths and counts, and truncated files, fail with an IOException without allocating what they announce
+	 */
+	@Test
+	void testCorruptSnapshot() throws Exception {
+		Path directory = Files.createTempDirectory("haivision-warm-start");
+		Path file = directory.resolve("test.snapshot");
+		try {
+			int[][] corruptions = {
+					{ STATISTICS_COUNT_OFFSET, -2 },
+					{ STATISTICS_COUNT_OFFSET, Integer.MAX_VALUE },
+					// length of the first statistics key
+					{ STATISTICS_COUNT_OFFSET + 4, Integer.MAX_VALUE },
+					{ STATISTICS_COUNT_OFFSET + 4, -2 },
+			};
+			for (int[] corruption : corruptions) {
+				writeCorruptSnapshot(file, corruption[0], corruption[1]);
+				Assert.assertThrows("Value " + corruption[1] + " at " + corruption[0], IOException.class, () -> WarmStartSnapshot.read(file));
+			}
+
+			new WarmStartSnapshot(1000, Collections.singletonMap("DeviceID", "device-1"), Collections.emptyList()).write(file);
+			byte[] content = Files.readAllBytes(file);
+			Files.write(file, Arrays.copyOf(content, content.length / 2));
+			Assert.assertThrows(IOException.class, () -> WarmStartSnapshot.read(file));
+		} finally {
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(directory);
+		}
+	}
+}
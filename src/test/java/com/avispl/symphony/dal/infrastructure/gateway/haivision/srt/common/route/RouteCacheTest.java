@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.gateway.haivision.srt.common.metric.RouteInfoEnum;
+
+/**
+ * Tests of {@link RouteCache} eviction and versioning.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class RouteCacheTest {
+	private static final String DEVICE_1 = "device-1";
+	private static final String DEVICE_2 = "device-2";
+	private static final long GRACE_PERIOD = 1000;
+
+	private final RouteCache routeCache = new RouteCache();
+
+	/**
+	 * Builds routes with the given names.
+	 *
+	 * @param names the route names.
+	 * @return the routes.
+	 */
+	private static List<RouteInfo> routes(String... names) {
+		List<RouteInfo> routes = new ArrayList<>();
+		for (String name : names) {
+			RouteInfo route = new RouteInfo();
+			route.setValue(RouteInfoEnum.NAME, name);
+			route.setValue(RouteInfoEnum.ID, name + "-id");
+			routes.add(route);
+		}
+		return routes;
+	}
+
+	/**
+	 * A route no longer returned keeps its last values during the grace period, and is evicted once it elapsed
+	 */
+	@Test
+	void testEvictionAfterGracePeriod() {
+		routeCache.update(DEVICE_1, routes("Route 1", "Route 2"), 0);
+		routeCache.update(DEVICE_1, routes("Route 1"), 500);
+		Assert.assertEquals(0, routeCache.evict(1000, GRACE_PERIOD, 0));
+		Assert.assertEquals(2, routeCache.size());
+		Assert.assertNotNull(routeCache.getRoutes(DEVICE_1).get("Route 2"));
+
+		Assert.assertEquals(1, routeCache.evict(1001, GRACE_PERIOD, 0));
+		Assert.assertEquals(1, routeCache.size());
+		Assert.assertNull(routeCache.getRoutes(DEVICE_1).get("Route 2"));
+		Assert.assertNotNull(routeCache.getRoutes(DEVICE_1).get("Route 1"));
+		Assert.assertEquals(1, routeCache.getEvictionCount());
+	}
+
+	/**
+	 * A device whose routes were all evicted is dropped from the cache
+	 */
+	@Test
+	void testEvictionOfWholeDevice() {
+		routeCache.update(DEVICE_1, routes("Route 1"), 0);
+		routeCache.update(DEVICE_2, routes("Route 1"), 2000);
+		Assert.assertEquals(1, routeCache.evict(2000, GRACE_PERIOD, 0));
+		Assert.assertTrue(routeCache.getRoutes(DEVICE_1).isEmpty());
+		Assert.assertEquals(1, routeCache.getRoutes(DEVICE_2).size());
+	}
+
+	/**
+	 * Above the size cap, the routes seen least recently are evicted first, across devices
+	 */
+	@Test
+	void testEvictionAtSizeCap() {
+		routeCache.update(DEVICE_1, routes("Route 1", "Route 2"), 100);
+		routeCache.update(DEVICE_2, routes("Route 1"), 200);
+		routeCache.update(DEVICE_1, routes("Route 3"), 300);
+		routeCache.update(DEVICE_2, routes("Route 2"), 400);
+
+		Assert.assertEquals(2, routeCache.evict(400, GRACE_PERIOD, 3));
+		Assert.assertEquals(3, routeCache.size());
+		Assert.assertEquals(Arrays.asList("Route 3"), new ArrayList<>(routeCache.getRoutes(DEVICE_1).keySet()));
+		Assert.assertEquals(2, routeCache.getRoutes(DEVICE_2).size());
+
+		Assert.assertEquals(0, routeCache.evict(400, GRACE_PERIOD, 3));
+		Assert.assertEquals(2, routeCache.getEvictionCount());
+	}
+
+	/**
+	 * A cap of 0 or less does not limit the cache
+	 */
+	@Test
+	void testNoSizeCap() {
+		routeCache.update(DEVICE_1, routes("Route 1", "Route 2", "Route 3"), 0);
+		Assert.assertEquals(0, routeCache.evict(0, GRACE_PERIOD, 0));
+		Assert.assertEquals(0, routeCache.evict(0, GRACE_PERIOD, -1));
+		Assert.assertEquals(3, routeCache.size());
+	}
+
+	/**
+	 * The version changes when a route name is added or evicted, not when known routes are updated
+	 */
+	@Test
+	void testVersion() {
+		long version = routeCache.getVersion();
+		routeCache.update(DEVICE_1, routes("Route 1", "Route 2"), 0);
+		Assert.assertNotEquals(version, routeCache.getVersion());
+
+		version = routeCache.getVersion();
+		routeCache.update(DEVICE_1, routes("Route 1", "Route 2"), 500);
+		routeCache.evict(500, GRACE_PERIOD, 0);
+		Assert.assertEquals(version, routeCache.getVersion());
+
+		routeCache.update(DEVICE_1, routes("Route 1"), 2000);
+		routeCache.evict(2000, GRACE_PERIOD, 0);
+		Assert.assertNotEquals(version, routeCache.getVersion());
+
+		version = routeCache.getVersion();
+		routeCache.clear();
+		Assert.assertNotEquals(version, routeCache.getVersion());
+		Assert.assertEquals(0, routeCache.size());
+		Assert.assertEquals(0, routeCache.getEvictionCount());
+	}
+}